@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.events;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Published once consumers of a tenant announced by {@link PulsarTenantDiscoveredEvent} finished subscribing. Consumers
+ * that failed to subscribe are missing from {@link #getConsumerIds()} and reported by
+ * {@link ConsumerSubscriptionFailedEvent} beforehand.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+public final class PulsarTenantReadyEvent {
+    private final Serializable tenant;
+    private final String tenantName;
+    private final Set<String> consumerIds;
+
+    public PulsarTenantReadyEvent(@NonNull final Serializable tenant,
+                                  @NonNull final String tenantName,
+                                  @NonNull final Set<String> consumerIds) {
+        this.tenant = tenant;
+        this.tenantName = tenantName;
+        this.consumerIds = Collections.unmodifiableSet(consumerIds);
+    }
+
+    /**
+     * @return Tenant ID as given by {@link PulsarTenantDiscoveredEvent}
+     */
+    public Serializable getTenant() {
+        return tenant;
+    }
+
+    /**
+     * @return Tenant name used in topics
+     */
+    public String getTenantName() {
+        return tenantName;
+    }
+
+    /**
+     * @return Identifiers of consumers subscribed for the tenant
+     */
+    public Set<String> getConsumerIds() {
+        return consumerIds;
+    }
+}
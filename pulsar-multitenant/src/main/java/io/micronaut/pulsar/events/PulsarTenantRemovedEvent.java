@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.events;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.Serializable;
+
+/**
+ * Counterpart of {@link PulsarTenantDiscoveredEvent} to publish once tenant is removed or becomes inactive. Consumers,
+ * producers and readers created for dynamic tenant topics of the tenant are closed and removed from their registries.
+ * Discovering the same tenant again subscribes its consumers anew.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+public final class PulsarTenantRemovedEvent {
+    private final Serializable tenant;
+
+    public PulsarTenantRemovedEvent(@NonNull final Serializable tenant) {
+        this.tenant = tenant;
+    }
+
+    public Serializable getTenant() {
+        return tenant;
+    }
+}
@@ -17,32 +17,50 @@ package io.micronaut.pulsar.intercept;
 
 import io.micronaut.aop.InterceptorBean;
 import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.context.BeanProvider;
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.Replaces;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.messaging.exceptions.MessageListenerException;
+import io.micronaut.pulsar.PulsarClientCache;
 import io.micronaut.pulsar.annotation.PulsarProducer;
 import io.micronaut.pulsar.annotation.PulsarProducerClient;
+import io.micronaut.pulsar.config.PulsarTenantCacheConfiguration;
 import io.micronaut.pulsar.events.ProducerSubscriptionFailedEvent;
 import io.micronaut.pulsar.processor.DefaultSchemaHandler;
 import io.micronaut.pulsar.processor.TenantNameResolver;
 import io.micronaut.pulsar.processor.TopicResolver;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
 import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
 import org.apache.pulsar.client.api.Producer;
 import org.apache.pulsar.client.api.PulsarClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Intercepting pulsar {@link Producer} methods. It can be used for creating implementation of interface methods or
  * just to add producer behaviour to existing methods.
+ * <p>
+ * Methods producing to topics with dynamic tenant get a separate producer for each tenant. Such producers are kept in
+ * a {@link PulsarClientCache} bounded by {@link PulsarTenantCacheConfiguration}, flushed and closed asynchronously once
+ * evicted; next message for the same tenant creates a new producer. Producers are leased from the cache while sending
+ * thus never evicted in the middle of a send.
  *
  * @author Haris Secic
  * @since 1.0
@@ -56,32 +74,87 @@ public final class PulsarMultitenantProducerAdvice extends PulsarProducerAdvice
 
     private final TenantNameResolver tenantNameResolver;
     private final TopicResolver topicResolver;
+    private final Map<ExecutableMethod<?, ?>, ProducerMethod> producerMethods = new ConcurrentHashMap<>();
+    private final PulsarClientCache<Producer<?>> tenantProducers;
+    private final Duration tenantProducerIdleTimeout;
+    private final BeanProvider<TaskScheduler> taskScheduler;
+    private final AtomicBoolean idleEvictionScheduled = new AtomicBoolean();
+    private volatile ScheduledFuture<?> idleEviction;
 
     public PulsarMultitenantProducerAdvice(final PulsarClient pulsarClient,
                                            final DefaultSchemaHandler simpleSchemaResolver,
                                            final BeanContext beanContext,
                                            final ApplicationEventPublisher<ProducerSubscriptionFailedEvent> applicationEventPublisher,
                                            final TenantNameResolver tenantNameResolver,
-                                           final TopicResolver topicResolver) {
+                                           final TopicResolver topicResolver,
+                                           final PulsarTenantCacheConfiguration tenantCacheConfiguration,
+                                           @Named(TaskExecutors.SCHEDULED) final BeanProvider<TaskScheduler> taskScheduler) {
         super(pulsarClient, simpleSchemaResolver, beanContext, applicationEventPublisher);
         this.tenantNameResolver = tenantNameResolver;
         this.topicResolver = topicResolver;
+        this.tenantProducerIdleTimeout = tenantCacheConfiguration.getProducerIdleTimeout();
+        this.tenantProducers = new PulsarClientCache<>(tenantCacheConfiguration.getMaxProducers(),
+            tenantProducerIdleTimeout,
+            this::flushAndClose);
+        this.taskScheduler = taskScheduler;
     }
 
     @Override
     protected Producer<?> getOrCreateProducer(final ExecutableMethod<?, ?> method,
                                               final AnnotationValue<PulsarProducer> annotationValue) {
-        final TopicResolver.TopicResolved topicResolved = TopicResolver.extractTopic(annotationValue);
-        final String producerName = annotationValue.stringValue("producerName", null)
-            .orElse(method.getDescription(true));
-        final String producerId = topicResolver.generateIdFromMessagingClientName(producerName, topicResolved);
+        final ProducerMethod producerMethod = producerMethods.computeIfAbsent(method,
+            x -> new ProducerMethod(annotationValue, x));
+        final String producerId = topicResolver.generateIdFromMessagingClientName(producerMethod.producerName,
+            producerMethod.topicResolved);
         if (!tenantNameResolver.hasTenantName()) {
             final String description = method.getDescription(false);
             LOG.error("Failed to resolve tenant while sending messages using {}", description);
             throw new ConfigurationException("Tenant not available during message sending");
         }
-        return producers.computeIfAbsent(producerId,
-            id -> tryCreate(beanContext, annotationValue, method, id));
+        if (!producerMethod.topicResolved.isDynamicTenant()) {
+            return producers.computeIfAbsent(producerId,
+                id -> tryCreate(beanContext, annotationValue, method, id));
+        }
+        // leased until the message is sent, see releaseAction
+        final Producer<?> cached = tenantProducers.acquire(producerId);
+        if (null != cached) {
+            return cached;
+        }
+        final Producer<?> producer = tryCreate(beanContext, annotationValue, method, producerId);
+        if (null == producer) {
+            return null;
+        }
+        final Producer<?> result = tenantProducers.acquireIfAbsent(producerId, producer);
+        if (result != producer) {
+            producer.closeAsync();
+        }
+        scheduleIdleEviction();
+        return result;
+    }
+
+    @Override
+    protected Runnable releaseAction(final ExecutableMethod<?, ?> method, @Nullable final Producer<?> producer) {
+        final ProducerMethod producerMethod = producerMethods.get(method);
+        if (null == producer || null == producerMethod || !producerMethod.topicResolved.isDynamicTenant()) {
+            return super.releaseAction(method, producer);
+        }
+        // resolved now as sending might complete on a thread without the tenant of the current call
+        final String producerId = topicResolver.generateIdFromMessagingClientName(producerMethod.producerName,
+            producerMethod.topicResolved);
+        return () -> tenantProducers.release(producerId, producer);
+    }
+
+    /**
+     * Producers of dynamic tenant topics are created per tenant on demand thus unused ones are closed periodically
+     * even if no other message is sent in the meantime.
+     */
+    private void scheduleIdleEviction() {
+        if (tenantProducerIdleTimeout.isZero() || tenantProducerIdleTimeout.isNegative()
+            || !idleEvictionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        idleEviction = taskScheduler.get().scheduleAtFixedRate(tenantProducerIdleTimeout, tenantProducerIdleTimeout,
+            tenantProducers::evictIdle);
     }
 
     private Producer<?> tryCreate(final BeanContext beanContext,
@@ -109,28 +182,88 @@ public final class PulsarMultitenantProducerAdvice extends PulsarProducerAdvice
     @Override
     @PreDestroy
     public void close() {
-        producers.values().stream().filter(Producer::isConnected).forEach(producer -> {
-            try {
-                producer.flush();
-                producer.close();
-            } catch (Exception e) {
-                LOG.warn("Error shutting down Pulsar producer: {}", e.getMessage(), e);
-            }
-        });
+        final ScheduledFuture<?> eviction = idleEviction;
+        if (null != eviction) {
+            eviction.cancel(false);
+        }
+        producers.values().stream().filter(Producer::isConnected).forEach(this::close);
+        tenantProducers.clear().stream().filter(Producer::isConnected).forEach(this::close);
     }
 
     @Override
     public Map<String, Producer<?>> getProducers() {
-        return producers;
+        final Map<String, Producer<?>> all = new HashMap<>(producers);
+        all.putAll(tenantProducers.asMap());
+        return all;
     }
 
     @Override
     public Producer<?> getProducer(@NonNull String id) {
-        return producers.get(id);
+        final Producer<?> producer = producers.get(id);
+        return null != producer ? producer : tenantProducers.peek(id);
     }
 
     @Override
     public Set<String> getProducerIds() {
-        return producers.keySet();
+        return getProducers().keySet();
+    }
+
+    @Override
+    public CompletableFuture<Void> removeProducer(@NonNull String id) {
+        final Producer<?> producer = producers.remove(id);
+        return flushAndClose(null != producer ? producer : tenantProducers.remove(id));
+    }
+
+    /**
+     * Remove, flush and close producers created for dynamic tenant topics of given tenant.
+     *
+     * @param tenantName tenant name as used in topics
+     * @return future completed once all producers of the tenant are closed
+     * @since 1.3.0
+     */
+    public CompletableFuture<Void> removeTenantProducers(final String tenantName) {
+        final TopicResolver tenantTopicResolver = topicResolver.forTenant(tenantName);
+        return CompletableFuture.allOf(producerMethods.values().stream()
+            .filter(x -> x.topicResolved.isDynamicTenant())
+            .map(x -> tenantTopicResolver.generateIdFromMessagingClientName(x.producerName, x.topicResolved))
+            .distinct()
+            .map(tenantProducers::remove)
+            .map(this::flushAndClose)
+            .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Producers of topics with dynamic tenant are kept in a bounded cache; this exposes its hit, miss and eviction
+     * counts.
+     *
+     * @return cache of producers created for dynamic tenant topics
+     * @since 1.3.0
+     */
+    public PulsarClientCache<Producer<?>> getTenantProducerCache() {
+        return tenantProducers;
+    }
+
+    private void close(final Producer<?> producer) {
+        try {
+            producer.flush();
+            producer.close();
+        } catch (Exception e) {
+            LOG.warn("Error shutting down Pulsar producer: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Topic and producer name read once from the annotation of a producer method.
+     */
+    private static final class ProducerMethod {
+        private final TopicResolver.TopicResolved topicResolved;
+        private final String producerName;
+
+        private ProducerMethod(final AnnotationValue<PulsarProducer> annotationValue,
+                               final ExecutableMethod<?, ?> method) {
+            this.topicResolved = TopicResolver.extractTopic(annotationValue);
+            this.producerName = annotationValue.stringValue("producerName", null)
+                .orElse(method.getDescription(true));
+        }
     }
 }
@@ -20,10 +20,21 @@ import io.micronaut.core.annotation.Internal;
 import io.micronaut.messaging.exceptions.MessageListenerException;
 import io.micronaut.multitenancy.exceptions.TenantNotFoundException;
 import io.micronaut.pulsar.config.AbstractPulsarConfiguration;
+import io.micronaut.pulsar.config.PulsarTenantCacheConfiguration;
 import jakarta.inject.Singleton;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 /**
  * Topic resolver for multi tenant scenarios. Replaces ${tenant} with the actual Apache Pulsar tenant name.
+ * <p>
+ * Topics are parsed once into {@link TopicTemplate} and tenant names are validated once thus resolving topic of a
+ * known tenant, as done by producers on each message, requires no pattern matching. Both are kept per tenant until
+ * {@link #removeTenant(String)} is called for it and are bounded by
+ * {@link PulsarTenantCacheConfiguration#getMaxTenants()} since tenant names come from requests.
  *
  * @author Haris
  * @since 1.2.0
@@ -33,37 +44,101 @@ import jakarta.inject.Singleton;
 @Internal
 final class MultiTenantTopicResolver implements TopicResolver {
 
-    private static final String FORMAT_ID = "%s-%s";
     private final TenantNameResolver tenantNameResolver;
+    private final Map<String, TopicTemplate> templates = new ConcurrentHashMap<>();
+    private final Set<String> validTenantNames = ConcurrentHashMap.newKeySet();
+    private final int maxTenants;
+    private final Function<String, TopicTemplate> templateFactory;
 
-    public MultiTenantTopicResolver(final TenantNameResolver tenantNameResolver) {
+    public MultiTenantTopicResolver(final TenantNameResolver tenantNameResolver,
+                                    final PulsarTenantCacheConfiguration tenantCacheConfiguration) {
         this.tenantNameResolver = tenantNameResolver;
+        this.maxTenants = tenantCacheConfiguration.getMaxTenants() > 0
+            ? tenantCacheConfiguration.getMaxTenants() : Integer.MAX_VALUE;
+        this.templateFactory = topic -> new TopicTemplate(topic, maxTenants);
     }
 
     @Override
     public String resolve(final String topic) throws TenantNotFoundException, MessageListenerException {
-        if (!TopicResolver.isDynamicTenantInTopic(topic)) {
+        final TopicTemplate template = templates.computeIfAbsent(topic, templateFactory);
+        if (!template.isDynamicTenant()) {
             return topic;
         }
-
-        final String tenantName = tenantNameResolver.getCurrentTenantName();
-
-        if (!TenantNameResolver.isValidTenantName(tenantName)) {
-            throw new MessageListenerException(String.format(
-                "Invalid value for topic: %s while resolving tenant: %s. Tenant name does not match pattern: %s",
-                topic,
-                tenantName,
-                AbstractPulsarConfiguration.TENANT_NAME_VALIDATOR));
-        }
-
-        return TopicResolver.replaceTenantInTopic(topic, tenantName);
+        return template.resolve(validate(topic, tenantNameResolver.getCurrentTenantName()));
     }
 
     @Override
     public String generateIdFromMessagingClientName(final String name, final TopicResolved topicResolved) {
         if (topicResolved.isDynamicTenant()) {
-            return String.format(FORMAT_ID, tenantNameResolver.getCurrentTenantName(), name);
+            return tenantNameResolver.getCurrentTenantName() + '-' + name;
         }
         return name;
     }
+
+    @Override
+    public TopicResolver forTenant(final String tenant) {
+        return new TenantTopicResolver(tenant);
+    }
+
+    @Override
+    public void removeTenant(final String tenant) {
+        validTenantNames.remove(tenant);
+        templates.values().forEach(x -> x.remove(tenant));
+    }
+
+    private String validate(final String topic, final String tenantName) {
+        if (!validTenantNames.contains(tenantName)) {
+            if (!TenantNameResolver.isValidTenantName(tenantName)) {
+                throw new MessageListenerException(String.format(
+                    "Invalid value for topic: %s while resolving tenant: %s. Tenant name does not match pattern: %s",
+                    topic,
+                    tenantName,
+                    AbstractPulsarConfiguration.TENANT_NAME_VALIDATOR));
+            }
+            if (validTenantNames.size() >= maxTenants) {
+                // names are validated again once dropped
+                validTenantNames.clear();
+            }
+            validTenantNames.add(tenantName);
+        }
+        return tenantName;
+    }
+
+    /**
+     * Resolver bound to a tenant given explicitly rather than taken from the current context.
+     */
+    private final class TenantTopicResolver implements TopicResolver {
+        private final String tenant;
+
+        private TenantTopicResolver(final String tenant) {
+            this.tenant = tenant;
+        }
+
+        @Override
+        public String resolve(final String topic) {
+            final TopicTemplate template = templates.computeIfAbsent(topic, templateFactory);
+            if (!template.isDynamicTenant()) {
+                return topic;
+            }
+            return template.resolve(validate(topic, tenant));
+        }
+
+        @Override
+        public String generateIdFromMessagingClientName(final String name, final TopicResolved topicResolved) {
+            if (topicResolved.isDynamicTenant()) {
+                return tenant + '-' + name;
+            }
+            return name;
+        }
+
+        @Override
+        public TopicResolver forTenant(final String tenant) {
+            return MultiTenantTopicResolver.this.forTenant(tenant);
+        }
+
+        @Override
+        public void removeTenant(final String tenant) {
+            MultiTenantTopicResolver.this.removeTenant(tenant);
+        }
+    }
 }
@@ -16,30 +16,44 @@
 package io.micronaut.pulsar.processor;
 
 import io.micronaut.context.BeanContext;
+import io.micronaut.context.BeanProvider;
 import io.micronaut.context.annotation.Replaces;
 import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.multitenancy.exceptions.TenantNotFoundException;
 import io.micronaut.pulsar.annotation.PulsarConsumer;
 import io.micronaut.pulsar.config.DefaultPulsarClientConfiguration;
 import io.micronaut.pulsar.events.PulsarTenantDiscoveredEvent;
+import io.micronaut.pulsar.events.PulsarTenantReadyEvent;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import org.apache.pulsar.client.api.Consumer;
 import org.apache.pulsar.client.api.PulsarClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Processor that initializes Pulsar consumers in async fashion if tenant is not specified statically (like when
  * hardcoded as a value in {@link PulsarConsumer} or specified as default in
  * {@link io.micronaut.pulsar.config.PulsarClientConfiguration}.
+ * <p>
+ * Consumers of a newly discovered tenant are subscribed concurrently on the IO executor, off the thread publishing
+ * {@link PulsarTenantDiscoveredEvent}, with tenant passed explicitly to {@link TopicResolver#forTenant(String)}.
+ * {@link PulsarTenantReadyEvent} is published once all of them finished subscribing. Consumers are tracked per
+ * tenant so {@link PulsarTenantRemover} can close them once tenant is gone.
  *
  * @author Haris
  * @since 1.2.0
@@ -52,7 +66,10 @@ final class PulsarMultiTenantConsumerProcessor extends PulsarConsumerProcessor i
     private static final Logger LOG = LoggerFactory.getLogger(PulsarMultiTenantConsumerProcessor.class);
 
     private final Map<String, MultiTenantConsumer> multiTenantConsumers;
+    private final Map<String, Set<String>> tenantConsumerIds = new ConcurrentHashMap<>();
     private final TenantNameResolver tenantNameResolver;
+    private final ApplicationEventPublisher<Object> applicationEventPublisher;
+    private final BeanProvider<ExecutorService> ioExecutor;
 
     public PulsarMultiTenantConsumerProcessor(final ApplicationEventPublisher<Object> applicationEventPublisher,
                                               final BeanContext beanContext,
@@ -60,14 +77,19 @@ final class PulsarMultiTenantConsumerProcessor extends PulsarConsumerProcessor i
                                               final DefaultSchemaHandler simpleSchemaResolver,
                                               final DefaultPulsarClientConfiguration pulsarClientConfiguration,
                                               final TopicResolver topicResolver,
-                                              final TenantNameResolver tenantNameResolver) {
+                                              final PulsarInterceptorResolver interceptorResolver,
+                                              final TenantNameResolver tenantNameResolver,
+                                              @Named(TaskExecutors.IO) final BeanProvider<ExecutorService> ioExecutor) {
         super(applicationEventPublisher,
             beanContext,
             pulsarClient,
             simpleSchemaResolver,
             pulsarClientConfiguration,
-            topicResolver);
+            topicResolver,
+            interceptorResolver);
         this.tenantNameResolver = tenantNameResolver;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.ioExecutor = ioExecutor;
         if (!tenantNameResolver.isStaticTenantResolver()) {
             multiTenantConsumers = new ConcurrentHashMap<>(10);
         } else {
@@ -92,18 +114,18 @@ final class PulsarMultiTenantConsumerProcessor extends PulsarConsumerProcessor i
                 super.process(beanDefinition, method);
                 return;
             }
-            final String consumerId = getConsumerName(annotation);
+            // generated names differ on each call thus name is computed once and reused for every tenant
+            final String name = getConsumerName(annotation);
             if (tenantNameResolver.hasTenantName()) {
-                final String resolvedConsumerId = topicResolver.generateIdFromMessagingClientName(consumerId, topic);
-                if (consumerExists(resolvedConsumerId)) {
-                    return;
-                }
-                super.process(beanDefinition, method);
+                final String tenantName = tenantNameResolver.getCurrentTenantName();
+                final TopicResolver tenantTopicResolver = topicResolver.forTenant(tenantName);
+                final String consumerId = tenantTopicResolver.generateIdFromMessagingClientName(name, topic);
+                final Set<String> tracked = tenantConsumerIds(tenantName);
+                subscribe(beanDefinition, method, tenantTopicResolver, name)
+                    .thenAccept(consumer -> track(tenantName, tracked, consumer, consumerId));
                 return;
             }
-            if (!multiTenantConsumers.containsKey(consumerId)) {
-                multiTenantConsumers.put(consumerId, new MultiTenantConsumer(beanDefinition, method));
-            }
+            multiTenantConsumers.putIfAbsent(name, new MultiTenantConsumer(beanDefinition, method, name));
         } catch (final TenantNotFoundException ex) {
             LOG.warn("Failed to instantiate a bean with consumers because topic value was set to dynamic tenant while tenant was missing.", ex);
         } catch (final NullPointerException ignore) {
@@ -112,21 +134,117 @@ final class PulsarMultiTenantConsumerProcessor extends PulsarConsumerProcessor i
 
     @Override
     public void onApplicationEvent(final PulsarTenantDiscoveredEvent event) {
+        if (null == multiTenantConsumers) {
+            return;
+        }
         final String tenantName = tenantNameResolver.resolveTenantNameFromId(event.getTenant());
-        tenantNameResolver.overrideTenantName(tenantName);
-        for (final MultiTenantConsumer x : multiTenantConsumers.values()) {
-            this.process(x.getBeanDefinition(), x.getMethod());
+        final TopicResolver tenantTopicResolver = topicResolver.forTenant(tenantName);
+        final ExecutorService executor = ioExecutor.get();
+        final Set<String> tracked = tenantConsumerIds(tenantName);
+        final Set<String> subscribed = ConcurrentHashMap.newKeySet();
+        final CompletableFuture<?>[] subscriptions = multiTenantConsumers.values().stream()
+            .map(x -> CompletableFuture.supplyAsync(() -> subscribe(x, tenantName, tracked, tenantTopicResolver), executor)
+                .thenCompose(consumer -> consumer)
+                .handle((consumerId, ex) -> {
+                    if (null != ex) {
+                        LOG.error("Failed to subscribe {} for tenant {}", x.getMethod().getDescription(false),
+                            tenantName, ex);
+                    } else if (null != consumerId) {
+                        subscribed.add(consumerId);
+                    }
+                    return null;
+                }))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(subscriptions).thenRun(() -> applicationEventPublisher.publishEvent(
+            new PulsarTenantReadyEvent(event.getTenant(), tenantName, subscribed)));
+    }
+
+    /**
+     * @return future completed with id of subscribed consumer; null if consumer already existed or failed
+     */
+    private CompletableFuture<String> subscribe(final MultiTenantConsumer multiTenantConsumer,
+                                                final String tenantName,
+                                                final Set<String> tracked,
+                                                final TopicResolver tenantTopicResolver) {
+        final AnnotationValue<PulsarConsumer> annotation = multiTenantConsumer.getMethod()
+            .getAnnotation(PulsarConsumer.class);
+        final TopicResolver.TopicResolved topic = TopicResolver.extractTopic(Objects.requireNonNull(annotation));
+        final String consumerId = tenantTopicResolver.generateIdFromMessagingClientName(multiTenantConsumer.getName(),
+            topic);
+        return subscribe(multiTenantConsumer.getBeanDefinition(), multiTenantConsumer.getMethod(), tenantTopicResolver,
+            multiTenantConsumer.getName())
+            .thenApply(consumer -> track(tenantName, tracked, consumer, consumerId));
+    }
+
+    /**
+     * Consumers of dynamic tenants are subscribed whenever tenant is discovered, possibly concurrently, thus existing
+     * or in-flight subscription of the same tenant consumer is skipped rather than treated as an error.
+     */
+    @Override
+    protected CompletableFuture<Consumer<?>> onDuplicateConsumer(final String consumerId,
+                                                                 final TopicResolver.TopicResolved topic) {
+        if (topic.isDynamicTenant()) {
+            return CompletableFuture.completedFuture(null);
         }
-        tenantNameResolver.clearTenantName();
+        return super.onDuplicateConsumer(consumerId, topic);
+    }
+
+    private Set<String> tenantConsumerIds(final String tenantName) {
+        return tenantConsumerIds.computeIfAbsent(tenantName, x -> ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Track consumer in the set of tenant consumer ids taken before subscribing. If tenant was removed in the meantime
+     * that set is no longer registered and consumer is closed instead, as nothing else would close it.
+     *
+     * @return id of the consumer in the registry; null if consumer is null or was closed due to tenant removal
+     */
+    @Nullable
+    private String track(final String tenantName,
+                         final Set<String> tracked,
+                         @Nullable final Consumer<?> consumer,
+                         final String consumerId) {
+        if (null == consumer) {
+            return null;
+        }
+        tracked.add(consumerId);
+        if (tenantConsumerIds.get(tenantName) != tracked) {
+            LOG.debug("Tenant {} was removed while subscribing {}; closing it", tenantName, consumerId);
+            removeConsumer(consumerId);
+            return null;
+        }
+        return consumerId;
+    }
+
+    /**
+     * Remove and close consumers subscribed for given tenant without removing their subscriptions.
+     *
+     * @param tenantName tenant name as used in topics
+     * @return future completed once all consumers of the tenant are closed
+     */
+    CompletableFuture<Void> removeTenantConsumers(final String tenantName) {
+        final Set<String> consumerIds = tenantConsumerIds.remove(tenantName);
+        if (null == consumerIds) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(consumerIds.stream()
+            .map(this::removeConsumer)
+            .toArray(CompletableFuture[]::new));
     }
 
     private static final class MultiTenantConsumer {
         private final BeanDefinition<?> beanDefinition;
         private final ExecutableMethod<?, ?> method;
+        private final String name;
 
-        public MultiTenantConsumer(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method) {
+        public MultiTenantConsumer(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method, String name) {
             this.beanDefinition = beanDefinition;
             this.method = method;
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
         }
 
         public BeanDefinition<?> getBeanDefinition() {
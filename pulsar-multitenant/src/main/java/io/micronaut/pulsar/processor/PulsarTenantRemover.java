@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.processor;
+
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.pulsar.PulsarReaderFactory;
+import io.micronaut.pulsar.events.PulsarTenantRemovedEvent;
+import io.micronaut.pulsar.intercept.PulsarMultitenantProducerAdvice;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Releases Pulsar clients of a tenant that was removed or became inactive. Consumers, producers and readers created
+ * for dynamic tenant topics of the tenant are closed in parallel and removed from their registries. Clients of other
+ * tenants and of topics without dynamic tenant are left intact. Once clients are closed, topics and tenant name cached by
+ * {@link TopicResolver} for the tenant are dropped as well.
+ * <p>
+ * Invoked on {@link PulsarTenantRemovedEvent} or directly via {@link #remove(Serializable)}.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Singleton
+public final class PulsarTenantRemover implements ApplicationEventListener<PulsarTenantRemovedEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PulsarTenantRemover.class);
+
+    private final TenantNameResolver tenantNameResolver;
+    private final TopicResolver topicResolver;
+    private final PulsarMultiTenantConsumerProcessor consumerProcessor;
+    private final BeanProvider<PulsarMultitenantProducerAdvice> producerAdvice;
+    private final BeanProvider<PulsarReaderFactory> readerFactory;
+
+    PulsarTenantRemover(final TenantNameResolver tenantNameResolver,
+                        final TopicResolver topicResolver,
+                        final PulsarMultiTenantConsumerProcessor consumerProcessor,
+                        final BeanProvider<PulsarMultitenantProducerAdvice> producerAdvice,
+                        final BeanProvider<PulsarReaderFactory> readerFactory) {
+        this.tenantNameResolver = tenantNameResolver;
+        this.topicResolver = topicResolver;
+        this.consumerProcessor = consumerProcessor;
+        this.producerAdvice = producerAdvice;
+        this.readerFactory = readerFactory;
+    }
+
+    /**
+     * Close and remove all Pulsar clients of the tenant.
+     *
+     * @param tenant tenant ID as given by {@link io.micronaut.pulsar.events.PulsarTenantDiscoveredEvent}
+     * @return future completed once all clients of the tenant are closed
+     */
+    public CompletableFuture<Void> remove(@NonNull final Serializable tenant) {
+        final String tenantName = tenantNameResolver.resolveTenantNameFromId(tenant);
+        return CompletableFuture.allOf(consumerProcessor.removeTenantConsumers(tenantName),
+            producerAdvice.get().removeTenantProducers(tenantName),
+            readerFactory.get().removeTenantReaders(tenantName))
+            .whenComplete((x, ex) -> topicResolver.removeTenant(tenantName));
+    }
+
+    @Override
+    public void onApplicationEvent(final PulsarTenantRemovedEvent event) {
+        remove(event.getTenant()).whenComplete((x, ex) -> {
+            if (null != ex) {
+                LOG.warn("Failed to close Pulsar clients of tenant {}", event.getTenant(), ex);
+            }
+        });
+    }
+}
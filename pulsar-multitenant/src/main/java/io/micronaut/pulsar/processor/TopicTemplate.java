@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.processor;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Topic name split once around the {@code ${tenant}} placeholder. Topic names are cached per tenant thus resolving
+ * topic for a known tenant is a map lookup. Tenants come from requests so once the cache reaches its maximum size it
+ * is dropped and filled again by subsequent lookups; topic names are cheap to build again.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Internal
+final class TopicTemplate {
+
+    private final String topic;
+    private final String prefix;
+    private final String suffix;
+    private final Map<String, String> topics;
+    private final int maxTenants;
+
+    /**
+     * @param topic      topic name possibly containing tenant placeholder
+     * @param maxTenants maximum number of cached topic names; 0 or less for no limit
+     */
+    TopicTemplate(final String topic, final int maxTenants) {
+        this.topic = topic;
+        this.maxTenants = maxTenants > 0 ? maxTenants : Integer.MAX_VALUE;
+        final int index = topic.indexOf(TopicResolver.TENANT_PLACEHOLDER);
+        if (index < 0) {
+            prefix = null;
+            suffix = null;
+            topics = null;
+        } else {
+            prefix = topic.substring(0, index);
+            suffix = topic.substring(index + TopicResolver.TENANT_PLACEHOLDER.length());
+            topics = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * @return Whether topic contains tenant placeholder
+     */
+    boolean isDynamicTenant() {
+        return null != topics;
+    }
+
+    /**
+     * @param tenant valid tenant name
+     * @return topic name with the first placeholder replaced by given tenant or the original topic if static
+     */
+    String resolve(final String tenant) {
+        if (null == topics) {
+            return topic;
+        }
+        final String resolved = topics.get(tenant);
+        if (null != resolved) {
+            return resolved;
+        }
+        if (topics.size() >= maxTenants) {
+            topics.clear();
+        }
+        return topics.computeIfAbsent(tenant, x -> prefix + x + suffix);
+    }
+
+    /**
+     * @param tenant removed tenant name
+     */
+    void remove(final String tenant) {
+        if (null != topics) {
+            topics.remove(tenant);
+        }
+    }
+}
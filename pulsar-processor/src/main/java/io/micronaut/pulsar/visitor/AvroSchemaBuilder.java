@@ -0,0 +1,243 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.visitor;
+
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.Element;
+import io.micronaut.inject.ast.ElementModifier;
+import io.micronaut.inject.ast.ElementQuery;
+import io.micronaut.inject.ast.EnumElement;
+import io.micronaut.inject.ast.FieldElement;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Builds AVRO schema JSON for a class the same way AVRO reflection with nullable fields does, which is what Pulsar
+ * uses for JSON and AVRO schemas: declared fields of the class and its super classes, sorted by name per class, except
+ * static and transient ones, where non primitive fields are nullable with null as default value.
+ * <p>
+ * Only primitives, their wrappers, strings, byte arrays, enums, collections, and nested classes of such fields are
+ * supported; for anything else, or for classes using AVRO annotations, no schema is built.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+final class AvroSchemaBuilder {
+
+    private static final Map<String, String> PRIMITIVES = new HashMap<>();
+    private static final Map<String, String> WRAPPERS = new HashMap<>();
+
+    static {
+        PRIMITIVES.put("boolean", "\"boolean\"");
+        PRIMITIVES.put("int", "\"int\"");
+        PRIMITIVES.put("long", "\"long\"");
+        PRIMITIVES.put("float", "\"float\"");
+        PRIMITIVES.put("double", "\"double\"");
+        WRAPPERS.put(Boolean.class.getName(), "\"boolean\"");
+        WRAPPERS.put(Integer.class.getName(), "\"int\"");
+        WRAPPERS.put(Long.class.getName(), "\"long\"");
+        WRAPPERS.put(Float.class.getName(), "\"float\"");
+        WRAPPERS.put(Double.class.getName(), "\"double\"");
+        WRAPPERS.put(String.class.getName(), "\"string\"");
+    }
+
+    private final Set<String> definedNames = new HashSet<>();
+
+    /**
+     * @param type message type
+     * @return whether type is a class that AVRO describes as a record
+     */
+    static boolean isRecordCandidate(final ClassElement type) {
+        final String name = type.getName();
+        return !type.isPrimitive()
+            && !type.isArray()
+            && !type.isEnum()
+            && !type.isInterface()
+            && !type.isAbstract()
+            && !type.isGenericPlaceholder()
+            && type.getBoundGenericTypes().isEmpty()
+            && !name.startsWith("java.")
+            && !name.startsWith("javax.")
+            && !type.isAssignable("com.google.protobuf.MessageLite")
+            && !type.isAssignable("org.apache.avro.generic.GenericContainer")
+            && !type.isAssignable("org.apache.pulsar.client.api.schema.GenericRecord");
+    }
+
+    /**
+     * @param type message type
+     * @return AVRO schema JSON or empty if type can't be described
+     */
+    Optional<String> build(final ClassElement type) {
+        final StringBuilder json = new StringBuilder(256);
+        return record(type, json) ? Optional.of(json.toString()) : Optional.empty();
+    }
+
+    private boolean record(final ClassElement type, final StringBuilder json) {
+        if (!isRecordCandidate(type) || hasAvroAnnotations(type)) {
+            return false;
+        }
+        final String fullName = type.getName();
+        if (!definedNames.add(fullName)) {
+            json.append('"').append(avroName(fullName)).append('"');
+            return true;
+        }
+        final int separator = fullName.lastIndexOf('$');
+        final String name;
+        final String namespace;
+        if (separator > 0) {
+            // AVRO names nested classes by their enclosing class
+            namespace = fullName.substring(0, separator);
+            name = fullName.substring(separator + 1);
+        } else {
+            namespace = type.getPackageName();
+            name = type.getSimpleName();
+        }
+        if (name.isEmpty() || Character.isDigit(name.charAt(0)) || namespace.indexOf('$') >= 0) {
+            return false;
+        }
+        json.append("{\"type\":\"record\",\"name\":\"").append(name).append('"');
+        if (!namespace.isEmpty()) {
+            json.append(",\"namespace\":\"").append(namespace).append('"');
+        }
+        json.append(",\"fields\":[");
+        boolean first = true;
+        for (final FieldElement field : fields(type)) {
+            if (hasAvroAnnotations(field)) {
+                return false;
+            }
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("{\"name\":\"").append(field.getName()).append("\",\"type\":");
+            final ClassElement fieldType = field.getGenericType();
+            if (fieldType.isPrimitive() && !fieldType.isArray()) {
+                final String primitive = PRIMITIVES.get(fieldType.getName());
+                if (null == primitive) {
+                    return false;
+                }
+                json.append(primitive);
+            } else {
+                json.append("[\"null\",");
+                if (!type(fieldType, json)) {
+                    return false;
+                }
+                json.append("],\"default\":null");
+            }
+            json.append('}');
+        }
+        json.append("]}");
+        return true;
+    }
+
+    private boolean type(final ClassElement type, final StringBuilder json) {
+        if (type.isArray()) {
+            if (type.getArrayDimensions() == 1 && "byte".equals(type.fromArray().getName())) {
+                json.append("{\"type\":\"bytes\",\"java-class\":\"[B\"}");
+                return true;
+            }
+            return false;
+        }
+        if (type.isPrimitive()) {
+            final String primitive = PRIMITIVES.get(type.getName());
+            if (null != primitive) {
+                json.append(primitive);
+            }
+            return null != primitive;
+        }
+        final String wrapper = WRAPPERS.get(type.getName());
+        if (null != wrapper) {
+            json.append(wrapper);
+            return true;
+        }
+        if (type.isEnum()) {
+            return enumeration(type, json);
+        }
+        if (type.isAssignable("java.util.Collection")) {
+            final Optional<ClassElement> item = type.getFirstTypeArgument();
+            if (!item.isPresent() || type.getBoundGenericTypes().size() != 1) {
+                return false;
+            }
+            json.append("{\"type\":\"array\",\"items\":");
+            if (!type(item.get(), json)) {
+                return false;
+            }
+            json.append(",\"java-class\":\"").append(type.getName()).append("\"}");
+            return true;
+        }
+        return record(type, json);
+    }
+
+    private boolean enumeration(final ClassElement type, final StringBuilder json) {
+        if (!(type instanceof EnumElement) || hasAvroAnnotations(type)) {
+            return false;
+        }
+        final String fullName = type.getName();
+        if (!definedNames.add(fullName)) {
+            json.append('"').append(avroName(fullName)).append('"');
+            return true;
+        }
+        final int separator = fullName.lastIndexOf('$');
+        if (fullName.indexOf('$') != separator) {
+            return false;
+        }
+        json.append("{\"type\":\"enum\",\"name\":\"")
+            .append(separator > 0 ? fullName.substring(separator + 1) : type.getSimpleName())
+            .append("\",\"namespace\":\"")
+            .append(separator > 0 ? fullName.substring(0, separator) : type.getPackageName())
+            .append("\",\"symbols\":[");
+        boolean first = true;
+        for (final String symbol : ((EnumElement) type).values()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append('"').append(symbol).append('"');
+        }
+        json.append("]}");
+        return true;
+    }
+
+    private static List<FieldElement> fields(final ClassElement type) {
+        final List<FieldElement> fields = new ArrayList<>();
+        ClassElement current = type;
+        while (null != current && !current.getName().startsWith("java.")) {
+            final List<FieldElement> declared = new ArrayList<>(current.getEnclosedElements(
+                ElementQuery.ALL_FIELDS.onlyDeclared()
+                    .modifiers(x -> !x.contains(ElementModifier.STATIC) && !x.contains(ElementModifier.TRANSIENT))));
+            declared.sort(Comparator.comparing(FieldElement::getName));
+            fields.addAll(declared);
+            current = current.getSuperType().orElse(null);
+        }
+        return fields;
+    }
+
+    private static boolean hasAvroAnnotations(final Element element) {
+        return element.getAnnotationNames().stream().anyMatch(x -> x.startsWith("org.apache.avro."));
+    }
+
+    private static String avroName(final String className) {
+        final int separator = className.lastIndexOf('$');
+        return separator > 0 ? className.substring(0, separator) + "." + className.substring(separator + 1) : className;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.visitor;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.ConstructorElement;
+import io.micronaut.inject.ast.FieldElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.inject.writer.GeneratedFile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Generates AVRO schema definitions at compile time for POJO message bodies of {@code @PulsarConsumer},
+ * {@code @PulsarProducer}, and {@code @PulsarReader} methods and of {@code @PulsarReader} and
+ * {@code @PulsarTableView} injection points using JSON or AVRO schema. Definitions are written to
+ * {@value #SCHEMAS_PATH} as {@code <class name>.avsc} and used at runtime instead of reflecting over the class.
+ * <p>
+ * Types this visitor can't describe exactly like AVRO reflection would are skipped and resolved at runtime.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Internal
+public final class PulsarSchemaVisitor implements TypeElementVisitor<Object, Object> {
+
+    /**
+     * Location of generated definitions inside META-INF. Must match the one used by the runtime.
+     */
+    public static final String SCHEMAS_PATH = "pulsar/schemas/";
+
+    private static final String ANNOTATION_PACKAGE = "io.micronaut.pulsar.annotation.";
+    private static final String CONSUMER = ANNOTATION_PACKAGE + "PulsarConsumer";
+    private static final String PRODUCER = ANNOTATION_PACKAGE + "PulsarProducer";
+    private static final String READER = ANNOTATION_PACKAGE + "PulsarReader";
+    private static final String TABLE_VIEW = ANNOTATION_PACKAGE + "PulsarTableView";
+    private static final String MESSAGE_BODY = "io.micronaut.messaging.annotation.MessageBody";
+    private static final String MESSAGE_KEY = ANNOTATION_PACKAGE + "MessageKey";
+    private static final Set<String> STRUCT_SCHEMAS = new HashSet<>(Arrays.asList("JSON", "AVRO"));
+    private static final List<String> WRAPPERS = Arrays.asList(
+        "org.apache.pulsar.client.api.Message",
+        "org.apache.pulsar.client.api.Reader",
+        "org.apache.pulsar.client.api.TableView",
+        "io.micronaut.pulsar.PartitionedReader",
+        "java.util.function.Supplier",
+        "java.util.concurrent.CompletionStage",
+        "java.util.Optional",
+        "java.util.Iterator",
+        "java.lang.Iterable",
+        "java.util.stream.Stream",
+        "org.reactivestreams.Publisher");
+    private static final String KEY_VALUE = "org.apache.pulsar.common.schema.KeyValue";
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationNames() {
+        return new HashSet<>(Arrays.asList(CONSUMER, PRODUCER, READER, TABLE_VIEW));
+    }
+
+    @Override
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.ISOLATING;
+    }
+
+    @Override
+    public void visitMethod(final MethodElement element, final VisitorContext context) {
+        if (element.hasDeclaredAnnotation(READER)) {
+            generate(element.getGenericReturnType(), READER, element, context);
+        }
+        for (final String annotation : Arrays.asList(CONSUMER, PRODUCER)) {
+            if (!element.hasDeclaredAnnotation(annotation)) {
+                continue;
+            }
+            for (final ParameterElement parameter : element.getParameters()) {
+                if (parameter.hasAnnotation(MESSAGE_KEY)) {
+                    if (isStruct(element, annotation, "keySchema")) {
+                        generate(parameter.getGenericType(), context);
+                    }
+                } else if (parameter.hasAnnotation(MESSAGE_BODY) || parameter.getAnnotationNames().isEmpty()) {
+                    generate(parameter.getGenericType(), annotation, element, context);
+                }
+            }
+        }
+        visitParameters(element.getParameters(), context);
+    }
+
+    @Override
+    public void visitConstructor(final ConstructorElement element, final VisitorContext context) {
+        visitParameters(element.getParameters(), context);
+    }
+
+    @Override
+    public void visitField(final FieldElement element, final VisitorContext context) {
+        visitInjectionPoint(element.getGenericType(), element, context);
+    }
+
+    private void visitParameters(final ParameterElement[] parameters, final VisitorContext context) {
+        for (final ParameterElement parameter : parameters) {
+            visitInjectionPoint(parameter.getGenericType(), parameter, context);
+        }
+    }
+
+    private void visitInjectionPoint(final ClassElement type, final AnnotationMetadata metadata, final VisitorContext context) {
+        if (metadata.hasDeclaredAnnotation(READER)) {
+            generate(type, READER, metadata, context);
+        } else if (metadata.hasDeclaredAnnotation(TABLE_VIEW)) {
+            generate(type, TABLE_VIEW, metadata, context);
+        }
+    }
+
+    private void generate(final ClassElement type,
+                          final String annotation,
+                          final AnnotationMetadata metadata,
+                          final VisitorContext context) {
+        final List<ClassElement> types = unwrap(type);
+        if (isStruct(metadata, annotation, "schema")) {
+            generate(types.get(0), context);
+        }
+        if (types.size() > 1 && isStruct(metadata, annotation, "keySchema")) {
+            generate(types.get(1), context);
+        }
+    }
+
+    private void generate(final ClassElement type, final VisitorContext context) {
+        final ClassElement body = unwrap(type).get(0);
+        if (!AvroSchemaBuilder.isRecordCandidate(body) || !generated.add(body.getName())) {
+            return;
+        }
+        final Optional<String> schema = new AvroSchemaBuilder().build(body);
+        if (!schema.isPresent()) {
+            context.info("Schema for " + body.getName() + " will be resolved at runtime", body);
+            return;
+        }
+        final Optional<GeneratedFile> file = context.visitMetaInfFile(SCHEMAS_PATH + body.getName() + ".avsc", body);
+        if (!file.isPresent()) {
+            return;
+        }
+        try (Writer writer = file.get().openWriter()) {
+            writer.write(schema.get());
+        } catch (IOException ex) {
+            context.warn("Failed to write Pulsar schema for " + body.getName() + ": " + ex.getMessage(), body);
+        }
+    }
+
+    /**
+     * Schema defaults to BYTES which is resolved as JSON for anything except byte arrays and strings.
+     */
+    private static boolean isStruct(final AnnotationMetadata metadata, final String annotation, final String member) {
+        return metadata.stringValue(annotation, member)
+            .map(x -> STRUCT_SCHEMAS.contains(x) || "BYTES".equals(x))
+            .orElse(true);
+    }
+
+    /**
+     * @return message types from wrappers like {@code Message<T>} or {@code CompletableFuture<T>}; value type followed
+     * by key type for key-value messages
+     */
+    private static List<ClassElement> unwrap(final ClassElement type) {
+        ClassElement current = type;
+        while (isWrapper(current) && current.getFirstTypeArgument().isPresent()) {
+            current = current.getFirstTypeArgument().get();
+        }
+        if (current.isAssignable(KEY_VALUE)) {
+            final List<? extends ClassElement> arguments = current.getBoundGenericTypes();
+            if (arguments.size() == 2) {
+                return Arrays.asList(arguments.get(1), arguments.get(0));
+            }
+        }
+        return Collections.singletonList(current);
+    }
+
+    private static boolean isWrapper(final ClassElement type) {
+        for (final String wrapper : WRAPPERS) {
+            if (type.isAssignable(wrapper)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar;
+
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.Reader;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Reader decorator recording ID of each message read in {@link ReaderCheckpointStore}. Pulsar client 2.10 has no
+ * reader interceptors so positions are tracked by wrapping read methods.
+ *
+ * @param <T> type of the message value
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+final class CheckpointingReader<T> implements Reader<T> {
+
+    private final Reader<T> delegate;
+    private final String readerId;
+    private final ReaderCheckpointStore store;
+
+    CheckpointingReader(final Reader<T> delegate, final String readerId, final ReaderCheckpointStore store) {
+        this.delegate = delegate;
+        this.readerId = readerId;
+        this.store = store;
+    }
+
+    @Override
+    public String getTopic() {
+        return delegate.getTopic();
+    }
+
+    @Override
+    public Message<T> readNext() throws PulsarClientException {
+        return track(delegate.readNext());
+    }
+
+    @Override
+    public Message<T> readNext(final int timeout, final TimeUnit unit) throws PulsarClientException {
+        return track(delegate.readNext(timeout, unit));
+    }
+
+    @Override
+    public CompletableFuture<Message<T>> readNextAsync() {
+        return delegate.readNextAsync().thenApply(this::track);
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+        return delegate.closeAsync();
+    }
+
+    @Override
+    public boolean hasReachedEndOfTopic() {
+        return delegate.hasReachedEndOfTopic();
+    }
+
+    @Override
+    public boolean hasMessageAvailable() throws PulsarClientException {
+        return delegate.hasMessageAvailable();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> hasMessageAvailableAsync() {
+        return delegate.hasMessageAvailableAsync();
+    }
+
+    @Override
+    public boolean isConnected() {
+        return delegate.isConnected();
+    }
+
+    @Override
+    public void seek(final MessageId messageId) throws PulsarClientException {
+        delegate.seek(messageId);
+    }
+
+    @Override
+    public void seek(final long timestamp) throws PulsarClientException {
+        delegate.seek(timestamp);
+    }
+
+    @Override
+    public void seek(final Function<String, Object> function) throws PulsarClientException {
+        delegate.seek(function);
+    }
+
+    @Override
+    public CompletableFuture<Void> seekAsync(final Function<String, Object> function) {
+        return delegate.seekAsync(function);
+    }
+
+    @Override
+    public CompletableFuture<Void> seekAsync(final MessageId messageId) {
+        return delegate.seekAsync(messageId);
+    }
+
+    @Override
+    public CompletableFuture<Void> seekAsync(final long timestamp) {
+        return delegate.seekAsync(timestamp);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private Message<T> track(final Message<T> message) {
+        if (null != message) {
+            store.update(readerId, message.getMessageId());
+        }
+        return message;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.pulsar.config.PulsarReaderCheckpointConfiguration;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.apache.pulsar.client.api.MessageId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Keeps reader positions in an append-only local file. Positions are updated in memory on each read and changed ones
+ * are appended to the file at configured interval, so reading is never blocked by disk I/O. Each record carries
+ * a checksum and a partially written record at the end of the file, left by a crash, is discarded on startup. File
+ * is compacted to the latest position per reader once it grows well beyond the number of readers.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Singleton
+@Requires(beans = PulsarReaderCheckpointConfiguration.class)
+public class FileReaderCheckpointStore implements ReaderCheckpointStore, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileReaderCheckpointStore.class);
+    private static final int MIN_RECORDS_BEFORE_COMPACTION = 1024;
+
+    private final Map<String, MessageId> positions = new ConcurrentHashMap<>();
+    private final Map<String, MessageId> changed = new ConcurrentHashMap<>();
+    private final Path path;
+    private final ScheduledFuture<?> flushing;
+    private FileChannel channel;
+    private int records;
+
+    public FileReaderCheckpointStore(final PulsarReaderCheckpointConfiguration configuration,
+                                     @Named(TaskExecutors.SCHEDULED) final TaskScheduler scheduler) throws IOException {
+        this.path = Paths.get(configuration.getPath()).toAbsolutePath();
+        if (null != path.getParent()) {
+            Files.createDirectories(path.getParent());
+        }
+        load();
+        if (shouldCompact()) {
+            compact();
+        }
+        this.channel = FileChannel.open(path, CREATE, WRITE, APPEND);
+        this.flushing = scheduler.scheduleAtFixedRate(configuration.getFlushInterval(),
+            configuration.getFlushInterval(),
+            this::flushQuietly);
+    }
+
+    @NonNull
+    @Override
+    public Optional<MessageId> load(@NonNull final String readerId) {
+        return Optional.ofNullable(positions.get(readerId));
+    }
+
+    @Override
+    public void update(@NonNull final String readerId, @NonNull final MessageId messageId) {
+        positions.put(readerId, messageId);
+        changed.put(readerId, messageId);
+    }
+
+    /**
+     * Append changed positions to the file and sync it to disk.
+     *
+     * @throws IOException if writing fails; positions will be retried on next flush
+     */
+    public synchronized void flush() throws IOException {
+        if (changed.isEmpty()) {
+            return;
+        }
+        final List<Map.Entry<String, MessageId>> flushed = new ArrayList<>(changed.entrySet());
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(flushed.size() * 64);
+        final DataOutputStream out = new DataOutputStream(bytes);
+        for (Map.Entry<String, MessageId> entry : flushed) {
+            writeRecord(out, entry.getKey(), entry.getValue());
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        records += flushed.size();
+        // keep positions that changed again while writing
+        flushed.forEach(x -> changed.remove(x.getKey(), x.getValue()));
+        if (shouldCompact()) {
+            channel.close();
+            compact();
+            channel = FileChannel.open(path, CREATE, WRITE, APPEND);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        flushing.cancel(false);
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            LOG.warn("Failed to write Pulsar reader checkpoints to {}: {}", path, e.getMessage(), e);
+        }
+    }
+
+    private boolean shouldCompact() {
+        return records > Math.max(MIN_RECORDS_BEFORE_COMPACTION, positions.size() * 4);
+    }
+
+    private void load() throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        long valid = 0;
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            while (true) {
+                final int length = in.readInt();
+                final long checksum = in.readLong();
+                if (length < 0 || length > 1 << 20) {
+                    break;
+                }
+                final byte[] payload = new byte[length];
+                in.readFully(payload);
+                final CRC32 crc = new CRC32();
+                crc.update(payload, 0, length);
+                if (crc.getValue() != checksum) {
+                    break;
+                }
+                final DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+                final String readerId = record.readUTF();
+                final byte[] messageId = new byte[record.readInt()];
+                record.readFully(messageId);
+                positions.put(readerId, MessageId.fromByteArray(messageId));
+                valid += Integer.BYTES + Long.BYTES + length;
+                records++;
+            }
+        } catch (EOFException ignore) {
+            // partially written record at the end of the file
+        }
+        if (valid < Files.size(path)) {
+            LOG.warn("Discarding incomplete Pulsar reader checkpoint records at the end of {}", path);
+            try (FileChannel truncating = FileChannel.open(path, WRITE)) {
+                truncating.truncate(valid);
+            }
+        }
+    }
+
+    private void compact() throws IOException {
+        final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(positions.size() * 64);
+            final DataOutputStream data = new DataOutputStream(bytes);
+            for (Map.Entry<String, MessageId> entry : positions.entrySet()) {
+                writeRecord(data, entry.getKey(), entry.getValue());
+            }
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        records = positions.size();
+    }
+
+    private static void writeRecord(final DataOutputStream out,
+                                    final String readerId,
+                                    final MessageId messageId) throws IOException {
+        final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(64);
+        final DataOutputStream payload = new DataOutputStream(payloadBytes);
+        final byte[] id = messageId.toByteArray();
+        payload.writeUTF(readerId);
+        payload.writeInt(id.length);
+        payload.write(id);
+        final byte[] record = payloadBytes.toByteArray();
+        final CRC32 crc = new CRC32();
+        crc.update(record, 0, record.length);
+        out.writeInt(record.length);
+        out.writeLong(crc.getValue());
+        out.write(record);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar;
+
+import io.micronaut.core.annotation.Internal;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.Reader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Reader of a dynamic tenant topic leased from {@link PulsarClientCache}. While leased, the reader is not evicted
+ * from the cache; closing it only returns the lease so the cached reader stays open for following calls.
+ *
+ * @param <T> type of the message value
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Internal
+public final class LeasedReader<T> implements Reader<T> {
+
+    private final Reader<T> delegate;
+    private final Runnable onRelease;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    LeasedReader(final Reader<T> delegate, final Runnable onRelease) {
+        this.delegate = delegate;
+        this.onRelease = onRelease;
+    }
+
+    /**
+     * Return the lease so the reader can be evicted once idle. Calling it more than once has no effect.
+     */
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            onRelease.run();
+        }
+    }
+
+    @Override
+    public String getTopic() {
+        return delegate.getTopic();
+    }
+
+    @Override
+    public Message<T> readNext() throws PulsarClientException {
+        return delegate.readNext();
+    }
+
+    @Override
+    public Message<T> readNext(final int timeout, final TimeUnit unit) throws PulsarClientException {
+        return delegate.readNext(timeout, unit);
+    }
+
+    @Override
+    public CompletableFuture<Message<T>> readNextAsync() {
+        return delegate.readNextAsync();
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+        release();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public boolean hasReachedEndOfTopic() {
+        return delegate.hasReachedEndOfTopic();
+    }
+
+    @Override
+    public boolean hasMessageAvailable() throws PulsarClientException {
+        return delegate.hasMessageAvailable();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> hasMessageAvailableAsync() {
+        return delegate.hasMessageAvailableAsync();
+    }
+
+    @Override
+    public boolean isConnected() {
+        return delegate.isConnected();
+    }
+
+    @Override
+    public void seek(final MessageId messageId) throws PulsarClientException {
+        delegate.seek(messageId);
+    }
+
+    @Override
+    public void seek(final long timestamp) throws PulsarClientException {
+        delegate.seek(timestamp);
+    }
+
+    @Override
+    public void seek(final Function<String, Object> function) throws PulsarClientException {
+        delegate.seek(function);
+    }
+
+    @Override
+    public CompletableFuture<Void> seekAsync(final Function<String, Object> function) {
+        return delegate.seekAsync(function);
+    }
+
+    @Override
+    public CompletableFuture<Void> seekAsync(final MessageId messageId) {
+        return delegate.seekAsync(messageId);
+    }
+
+    @Override
+    public CompletableFuture<Void> seekAsync(final long timestamp) {
+        return delegate.seekAsync(timestamp);
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+}
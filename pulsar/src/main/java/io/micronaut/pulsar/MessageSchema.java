@@ -104,7 +104,19 @@ public enum MessageSchema {
     /**
      * A schema for Protocol Buffer generated messages.
      */
-    PROTOBUF(SchemaResolver.PROTOBUF_SCHEMA_NAME);
+    PROTOBUF(SchemaResolver.PROTOBUF_SCHEMA_NAME),
+
+    /**
+     * POJOs mapped like JSON but encoded as CBOR; registered as `BYTES`. Requires `jackson-dataformat-cbor`.
+     * @since 1.3.0
+     */
+    CBOR(SchemaResolver.CBOR_SCHEMA_NAME),
+
+    /**
+     * POJOs mapped like JSON but encoded as MessagePack; registered as `BYTES`. Requires `jackson-dataformat-msgpack`.
+     * @since 1.3.0
+     */
+    MSGPACK(SchemaResolver.MSGPACK_SCHEMA_NAME);
 
     final String schemaResolverName;
 
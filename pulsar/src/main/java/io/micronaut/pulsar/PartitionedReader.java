@@ -0,0 +1,220 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar;
+
+import io.micronaut.messaging.exceptions.MessageListenerException;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.Reader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Set of Pulsar readers, one per partition of a partitioned topic, that can be read in parallel. Useful for loading
+ * large partitioned topics into memory as reading scales with the number of partitions instead of being serial.
+ * For non-partitioned topics it holds a single reader.
+ * <p>
+ * Readers are registered in {@link PulsarReaderRegistry} under the reader name followed by {@code -} and partition
+ * index.
+ *
+ * @param <T> type of the message value
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+public final class PartitionedReader<T> implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionedReader.class);
+    private static final int MERGE_BUFFER_SIZE = 1024;
+    private static final Object END = new Object();
+
+    private final String topic;
+    private final List<Reader<T>> readers;
+    private final Executor executor;
+
+    /**
+     * @param topic    partitioned topic name
+     * @param readers  readers ordered by partition index
+     * @param executor default executor used to read partitions
+     */
+    public PartitionedReader(final String topic, final List<Reader<T>> readers, final Executor executor) {
+        this.topic = topic;
+        this.readers = Collections.unmodifiableList(new ArrayList<>(readers));
+        this.executor = executor;
+    }
+
+    /**
+     * @return topic name readers are created for
+     */
+    public String getTopic() {
+        return topic;
+    }
+
+    /**
+     * @return readers ordered by partition index
+     */
+    public List<Reader<T>> getPartitionReaders() {
+        return readers;
+    }
+
+    /**
+     * Read all messages currently available on each partition in parallel using the IO executor.
+     *
+     * @param handler called with partition index and message; calls for the same partition are sequential and in
+     *                order but calls for different partitions happen concurrently
+     * @return future completed once all partitions have no more messages available
+     */
+    public CompletableFuture<Void> readAvailable(final BiConsumer<Integer, Message<T>> handler) {
+        return readAvailable(handler, executor);
+    }
+
+    /**
+     * Read all messages currently available on each partition in parallel.
+     *
+     * @param handler  called with partition index and message; calls for the same partition are sequential and in
+     *                 order but calls for different partitions happen concurrently
+     * @param executor executor to read partitions on; each partition occupies one thread until it's read
+     * @return future completed once all partitions have no more messages available
+     */
+    public CompletableFuture<Void> readAvailable(final BiConsumer<Integer, Message<T>> handler,
+                                                 final Executor executor) {
+        return CompletableFuture.allOf(IntStream.range(0, readers.size())
+            .mapToObj(partition -> CompletableFuture.runAsync(() -> drain(partition, handler), executor))
+            .toArray(CompletableFuture<?>[]::new));
+    }
+
+    /**
+     * Merge messages currently available on all partitions into a single stream. Partitions are read in parallel
+     * using the IO executor; messages of the same partition keep their order while messages of different partitions
+     * are interleaved. Stream must be closed if it isn't consumed to the end; otherwise partition reads stay blocked
+     * on the full merge buffer and keep occupying executor threads.
+     *
+     * @return stream of messages that ends once all partitions have no more messages available
+     */
+    public Stream<Message<T>> streamAvailable() {
+        final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(MERGE_BUFFER_SIZE);
+        final MergedIterator iterator = new MergedIterator(queue);
+        readAvailable((partition, message) -> iterator.offer(message))
+            .whenComplete((x, ex) -> iterator.offer(null == ex ? END : ex));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(iterator::cancel);
+    }
+
+    @Override
+    public void close() {
+        for (final Reader<T> reader : readers) {
+            try {
+                reader.close();
+            } catch (Exception e) {
+                LOG.warn("Error shutting down Pulsar reader: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void drain(final int partition, final BiConsumer<Integer, Message<T>> handler) {
+        final Reader<T> reader = readers.get(partition);
+        try {
+            while (reader.hasMessageAvailable()) {
+                handler.accept(partition, reader.readNext());
+            }
+        } catch (PulsarClientException e) {
+            throw new CompletionException(new MessageListenerException(
+                String.format("Failed to read message on topic %s", reader.getTopic()),
+                e));
+        }
+    }
+
+    private final class MergedIterator implements Iterator<Message<T>> {
+        private final BlockingQueue<Object> queue;
+        private volatile boolean cancelled;
+        private Object next;
+
+        private MergedIterator(final BlockingQueue<Object> queue) {
+            this.queue = queue;
+        }
+
+        private void offer(final Object element) {
+            try {
+                // wait in slices so partition reads stop once the stream is closed
+                boolean offered = false;
+                while (!cancelled && !offered) {
+                    offered = queue.offer(element, 100, MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            if (cancelled) {
+                throw new CompletionException(new IllegalStateException("Partitioned reader stream closed"));
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null == next) {
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MessageListenerException("Interrupted while reading partitions of " + topic, e);
+                }
+            }
+            if (next instanceof Throwable) {
+                final Throwable cause = next instanceof CompletionException && null != ((Throwable) next).getCause()
+                    ? ((Throwable) next).getCause() : (Throwable) next;
+                next = END;
+                throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new MessageListenerException("Failed to read partitions of " + topic, cause);
+            }
+            return END != next;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Message<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Message<T> message = (Message<T>) next;
+            next = null;
+            return message;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded cache for Pulsar clients like readers and producers created per tenant. Entries are kept in access order so
+ * both size and idle time eviction remove least recently used entries first without scanning the whole cache.
+ * Evicted entries are closed asynchronously.
+ * <p>
+ * Clients in use are leased with {@link #acquire(String)} or {@link #acquireIfAbsent(String, Object)} and
+ * {@link #release(String, Object)}. Leased entries are never evicted, so cache may temporarily hold more than maximum
+ * number of entries while all of them are in use.
+ *
+ * @param <V> type of cached client
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Internal
+public final class PulsarClientCache<V> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PulsarClientCache.class);
+
+    // insertion ordered; accessed entries are re-inserted so peeking doesn't change the order
+    private final LinkedHashMap<String, Entry<V>> entries = new LinkedHashMap<>();
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final Function<V, CompletableFuture<?>> closer;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize     maximum number of entries; 0 or less for no limit
+     * @param idleTimeout time after which entry that wasn't accessed is evicted; null or zero to disable
+     * @param closer      asynchronously closes evicted entry
+     */
+    public PulsarClientCache(final int maxSize,
+                             @Nullable final Duration idleTimeout,
+                             final Function<V, CompletableFuture<?>> closer) {
+        this.maxSize = maxSize > 0 ? maxSize : Integer.MAX_VALUE;
+        this.idleTimeoutNanos = null == idleTimeout || idleTimeout.isZero() || idleTimeout.isNegative()
+            ? Long.MAX_VALUE : idleTimeout.toNanos();
+        this.closer = closer;
+    }
+
+    /**
+     * @param key client identifier
+     * @return cached client or null if missing
+     */
+    @Nullable
+    public V get(final String key) {
+        return lookup(key, false);
+    }
+
+    /**
+     * Lease cached client so it isn't evicted until {@link #release(String, Object)} is called.
+     *
+     * @param key client identifier
+     * @return leased client or null if missing
+     */
+    @Nullable
+    public V acquire(final String key) {
+        return lookup(key, true);
+    }
+
+    /**
+     * Lookup without updating access order, idle time or hit and miss counts.
+     *
+     * @param key client identifier
+     * @return cached client or null if missing
+     */
+    @Nullable
+    public V peek(final String key) {
+        synchronized (entries) {
+            final Entry<V> entry = entries.get(key);
+            return null == entry ? null : entry.value;
+        }
+    }
+
+    /**
+     * Add client to the cache unless other one was added concurrently for the same key.
+     *
+     * @param key   client identifier
+     * @param value new client
+     * @return client in the cache; either given or the one added concurrently
+     */
+    public V putIfAbsent(final String key, final V value) {
+        return put(key, value, false);
+    }
+
+    /**
+     * Same as {@link #putIfAbsent(String, Object)} but leases resulting client.
+     *
+     * @param key   client identifier
+     * @param value new client
+     * @return leased client; either given or the one added concurrently
+     */
+    public V acquireIfAbsent(final String key, final V value) {
+        return put(key, value, true);
+    }
+
+    /**
+     * Return a lease taken by {@link #acquire(String)} or {@link #acquireIfAbsent(String, Object)}. Nothing happens if
+     * the entry was removed or replaced in the meantime.
+     *
+     * @param key   client identifier
+     * @param value leased client
+     */
+    public void release(final String key, final V value) {
+        final long now = System.nanoTime();
+        final List<V> evicted;
+        synchronized (entries) {
+            final Entry<V> entry = entries.get(key);
+            if (null == entry || entry.value != value || 0 == entry.leases) {
+                return;
+            }
+            entry.leases--;
+            touch(key, entry, now);
+            // entries over the limit might have been kept only because they were leased
+            evicted = evict(now, null);
+        }
+        close(evicted);
+    }
+
+    /**
+     * Remove client from the cache without closing it.
+     *
+     * @param key client identifier
+     * @return removed client or null if missing
+     */
+    @Nullable
+    public V remove(final String key) {
+        synchronized (entries) {
+            final Entry<V> entry = entries.remove(key);
+            return null == entry ? null : entry.value;
+        }
+    }
+
+    /**
+     * Evict and close clients idle for longer than configured idle timeout.
+     */
+    public void evictIdle() {
+        final List<V> evicted;
+        synchronized (entries) {
+            evicted = evict(System.nanoTime(), null);
+        }
+        close(evicted);
+    }
+
+    /**
+     * @return snapshot of cached clients
+     */
+    public Collection<V> values() {
+        synchronized (entries) {
+            final List<V> values = new ArrayList<>(entries.size());
+            entries.values().forEach(x -> values.add(x.value));
+            return values;
+        }
+    }
+
+    /**
+     * @return snapshot of cached clients by their identifiers, least recently used first
+     */
+    public Map<String, V> asMap() {
+        synchronized (entries) {
+            final Map<String, V> values = new LinkedHashMap<>(entries.size());
+            entries.forEach((key, entry) -> values.put(key, entry.value));
+            return values;
+        }
+    }
+
+    /**
+     * Remove all clients without closing them.
+     *
+     * @return removed clients
+     */
+    public Collection<V> clear() {
+        synchronized (entries) {
+            final Collection<V> values = values();
+            entries.clear();
+            return values;
+        }
+    }
+
+    /**
+     * @return number of cached clients
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return number of lookups that found a client
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of lookups that didn't find a client
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of clients evicted due to size or idle time
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Nullable
+    private V lookup(final String key, final boolean lease) {
+        final long now = System.nanoTime();
+        final List<V> evicted;
+        final V value;
+        synchronized (entries) {
+            evicted = evict(now, null);
+            final Entry<V> entry = entries.get(key);
+            if (null == entry) {
+                value = null;
+            } else {
+                touch(key, entry, now);
+                if (lease) {
+                    entry.leases++;
+                }
+                value = entry.value;
+            }
+        }
+        close(evicted);
+        if (null == value) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    private V put(final String key, final V value, final boolean lease) {
+        final long now = System.nanoTime();
+        final List<V> evicted;
+        final V result;
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (null != entry) {
+                touch(key, entry, now);
+            } else {
+                entry = new Entry<>(value, now);
+                entries.put(key, entry);
+            }
+            if (lease) {
+                entry.leases++;
+            }
+            result = entry.value;
+            evicted = evict(now, key);
+        }
+        close(evicted);
+        return result;
+    }
+
+    private void touch(final String key, final Entry<V> entry, final long now) {
+        entry.lastAccess = now;
+        entries.remove(key);
+        entries.put(key, entry);
+    }
+
+    /**
+     * Remove least recently used entries over the size limit and idle ones, skipping leased entries.
+     *
+     * @param keep key of the entry just accessed which must not be evicted; null if none
+     */
+    private List<V> evict(final long now, @Nullable final String keep) {
+        final List<V> evicted = new ArrayList<>(0);
+        final Iterator<Map.Entry<String, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (eldest.hasNext()) {
+            final Map.Entry<String, Entry<V>> next = eldest.next();
+            final Entry<V> entry = next.getValue();
+            if (entries.size() <= maxSize && now - entry.lastAccess < idleTimeoutNanos) {
+                // remaining entries were accessed more recently
+                break;
+            }
+            if (0 < entry.leases || next.getKey().equals(keep)) {
+                continue;
+            }
+            evicted.add(entry.value);
+            eldest.remove();
+        }
+        return evicted;
+    }
+
+    private void close(final List<V> evicted) {
+        for (V value : evicted) {
+            evictions.increment();
+            try {
+                closer.apply(value).whenComplete((x, ex) -> {
+                    if (null != ex) {
+                        LOG.warn("Failed to close evicted Pulsar client: {}", ex.getMessage(), ex);
+                    }
+                });
+            } catch (Exception ex) {
+                LOG.warn("Failed to close evicted Pulsar client: {}", ex.getMessage(), ex);
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private long lastAccess;
+        private int leases;
+
+        private Entry(final V value, final long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import org.apache.pulsar.client.api.Consumer;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A registry for created Pulsar consumers.
@@ -42,4 +43,20 @@ public interface PulsarConsumerRegistry {
     void pause(@NonNull String id);
 
     void resume(@NonNull String id);
+
+    /**
+     * Remove consumer from the registry and close it without removing its subscription.
+     *
+     * @param id unique identifier
+     * @return future completed once consumer is closed; completed immediately if consumer doesn't exist
+     *         or completed exceptionally with {@link UnsupportedOperationException} if registry doesn't support
+     *         removal which is the default
+     * @since 1.3.0
+     */
+    default CompletableFuture<Void> removeConsumer(@NonNull final String id) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        result.completeExceptionally(new UnsupportedOperationException(
+            "Consumer removal is not supported by " + getClass().getName()));
+        return result;
+    }
 }
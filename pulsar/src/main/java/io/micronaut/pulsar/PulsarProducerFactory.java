@@ -19,14 +19,18 @@ import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.context.annotation.Prototype;
 import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.messaging.exceptions.MessagingClientException;
 import io.micronaut.pulsar.annotation.PulsarProducer;
 import io.micronaut.pulsar.config.PulsarClientConfiguration;
 import io.micronaut.pulsar.processor.DefaultSchemaHandler;
 import io.micronaut.pulsar.processor.PulsarArgumentHandler;
+import io.micronaut.pulsar.processor.PulsarInterceptorResolver;
 import io.micronaut.pulsar.processor.TopicResolver;
+import jakarta.inject.Inject;
 import org.apache.pulsar.client.api.*;
+import org.apache.pulsar.client.api.interceptor.ProducerInterceptor;
 import org.apache.pulsar.client.impl.ProducerBuilderImpl;
 import org.apache.pulsar.client.impl.PulsarClientImpl;
 
@@ -41,10 +45,35 @@ public class PulsarProducerFactory {
 
     private final PulsarClientConfiguration configuration;
     private final TopicResolver topicResolver;
+    @Nullable
+    private final PulsarInterceptorResolver interceptorResolver;
 
+    /**
+     * Producers created by a factory instantiated this way are not given interceptor beans.
+     *
+     * @param configuration Pulsar client configuration
+     * @param topicResolver topic resolver
+     * @deprecated use {@link #PulsarProducerFactory(PulsarClientConfiguration, TopicResolver,
+     * PulsarInterceptorResolver)}
+     */
+    @Deprecated
     public PulsarProducerFactory(final PulsarClientConfiguration configuration, final TopicResolver topicResolver) {
+        this(configuration, topicResolver, null);
+    }
+
+    /**
+     * @param configuration       Pulsar client configuration
+     * @param topicResolver       topic resolver
+     * @param interceptorResolver resolver of producer interceptor beans
+     * @since 1.3.0
+     */
+    @Inject
+    public PulsarProducerFactory(final PulsarClientConfiguration configuration,
+                                 final TopicResolver topicResolver,
+                                 @Nullable final PulsarInterceptorResolver interceptorResolver) {
         this.configuration = configuration;
         this.topicResolver = topicResolver;
+        this.interceptorResolver = interceptorResolver;
     }
 
     /**
@@ -82,9 +111,16 @@ public class PulsarProducerFactory {
             throw new MessagingClientException("Topic value missing for producer " + producerName);
         }
 
+        final String resolvedTopic = topicResolver.resolve(topic);
         final ProducerBuilder<T> producerBuilder = new ProducerBuilderImpl<>((PulsarClientImpl) pulsarClient, schema)
             .producerName(producerName)
-            .topic(topicResolver.resolve(topic));
+            .topic(resolvedTopic);
+        if (null != interceptorResolver) {
+            final ProducerInterceptor[] interceptors = interceptorResolver.producerInterceptors(resolvedTopic);
+            if (interceptors.length > 0) {
+                producerBuilder.intercept(interceptors);
+            }
+        }
 
         annotationValue.booleanValue("multiSchema").ifPresent(producerBuilder::enableMultiSchema);
         annotationValue.booleanValue("autoUpdatePartition").ifPresent(producerBuilder::autoUpdatePartitions);
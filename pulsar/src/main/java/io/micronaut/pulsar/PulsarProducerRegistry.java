@@ -20,6 +20,7 @@ import org.apache.pulsar.client.api.Producer;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A registry of managed {@link Producer} instances key by id and type.
@@ -47,4 +48,20 @@ public interface PulsarProducerRegistry {
      * @return List of producer names representing their identifiers in registry.
      */
     Set<String> getProducerIds();
+
+    /**
+     * Remove producer from the registry, flush pending messages and close it.
+     *
+     * @param id unique identifier
+     * @return future completed once producer is closed; completed immediately if producer doesn't exist
+     *         or completed exceptionally with {@link UnsupportedOperationException} if registry doesn't support
+     *         removal which is the default
+     * @since 1.3.0
+     */
+    default CompletableFuture<Void> removeProducer(@NonNull final String id) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        result.completeExceptionally(new UnsupportedOperationException(
+            "Producer removal is not supported by " + getClass().getName()));
+        return result;
+    }
 }
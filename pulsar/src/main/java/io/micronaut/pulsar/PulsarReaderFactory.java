@@ -16,6 +16,7 @@
 package io.micronaut.pulsar;
 
 import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.BeanProvider;
 import io.micronaut.context.BeanResolutionContext;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Parameter;
@@ -24,23 +25,39 @@ import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.ArgumentInjectionPoint;
 import io.micronaut.inject.ConstructorInjectionPoint;
 import io.micronaut.inject.FieldInjectionPoint;
 import io.micronaut.inject.InjectionPoint;
 import io.micronaut.pulsar.annotation.PulsarReader;
+import io.micronaut.pulsar.config.PulsarTenantCacheConfiguration;
 import io.micronaut.pulsar.processor.DefaultSchemaHandler;
 import io.micronaut.pulsar.processor.TopicResolver;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.inject.Named;
 import org.apache.pulsar.client.api.*;
+import org.apache.pulsar.common.naming.TopicName;
 import org.apache.pulsar.common.schema.KeyValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Create pulsar reader beans for fields annotated with PulsarReader.
@@ -54,16 +71,36 @@ public class PulsarReaderFactory implements AutoCloseable, PulsarReaderRegistry
     private static final Logger LOG = LoggerFactory.getLogger(PulsarReaderFactory.class);
 
     private final Map<String, Reader<?>> readers = new ConcurrentHashMap<>();
+    private final Map<String, PartitionedReader<?>> partitionedReaders = new ConcurrentHashMap<>();
     private final PulsarClient pulsarClient;
     private final DefaultSchemaHandler simpleSchemaResolver;
     private final TopicResolver topicResolver;
+    private final BeanProvider<ExecutorService> ioExecutor;
+    private final BeanProvider<ReaderCheckpointStore> checkpointStore;
+    private final PulsarClientCache<Reader<?>> tenantReaders;
+    private final Map<String, TopicResolver.TopicResolved> tenantReaderNames = new ConcurrentHashMap<>();
+    private final Duration tenantReaderIdleTimeout;
+    private final BeanProvider<TaskScheduler> taskScheduler;
+    private final AtomicBoolean idleEvictionScheduled = new AtomicBoolean();
+    private volatile ScheduledFuture<?> idleEviction;
 
     public PulsarReaderFactory(final PulsarClient pulsarClient,
                                final DefaultSchemaHandler simpleSchemaResolver,
-                               final TopicResolver topicResolver) {
+                               final TopicResolver topicResolver,
+                               @Named(TaskExecutors.IO) final BeanProvider<ExecutorService> ioExecutor,
+                               final BeanProvider<ReaderCheckpointStore> checkpointStore,
+                               final PulsarTenantCacheConfiguration tenantCacheConfiguration,
+                               @Named(TaskExecutors.SCHEDULED) final BeanProvider<TaskScheduler> taskScheduler) {
         this.pulsarClient = pulsarClient;
         this.simpleSchemaResolver = simpleSchemaResolver;
         this.topicResolver = topicResolver;
+        this.ioExecutor = ioExecutor;
+        this.checkpointStore = checkpointStore;
+        this.tenantReaderIdleTimeout = tenantCacheConfiguration.getReaderIdleTimeout();
+        this.tenantReaders = new PulsarClientCache<>(tenantCacheConfiguration.getMaxReaders(),
+            tenantReaderIdleTimeout,
+            Reader::closeAsync);
+        this.taskScheduler = taskScheduler;
     }
 
     /**
@@ -88,11 +125,26 @@ public class PulsarReaderFactory implements AutoCloseable, PulsarReaderRegistry
                 Objects.requireNonNull(returnType),
                 Objects.requireNonNull(methodInvocationContext));
         }
-        return getReaderByInjectionPoint(context);
+        return fromInjectionPoint(context, this::getOrCreateReader);
+    }
+
+    /**
+     * Create one Pulsar Reader per partition of the topic for given injection point if missing.
+     *
+     * @param context injection point of {@code PartitionedReader<?>}
+     * @return new instance of partitioned reader if missing; otherwise return from cache
+     * @throws PulsarClientException in case of not being able to create readers
+     * @since 1.3.0
+     */
+    @Prototype
+    public PartitionedReader<?> getPartitionedReaderByInjectionPoint(final BeanResolutionContext context)
+        throws PulsarClientException {
+        return fromInjectionPoint(context, this::getOrCreatePartitionedReader);
     }
 
     @SuppressWarnings("unchecked")
-    private Reader<?> getReaderByInjectionPoint(final BeanResolutionContext context) throws PulsarClientException {
+    private <R> R fromInjectionPoint(final BeanResolutionContext context,
+                                     final ReaderCreator<R> creator) throws PulsarClientException {
         final InjectionPoint<?> injectionPoint = context.getPath().currentSegment()
             .orElseThrow(() ->
                 new IllegalStateException("Could not resolve current injection context while creating a reader"))
@@ -144,7 +196,7 @@ public class PulsarReaderFactory implements AutoCloseable, PulsarReaderRegistry
             }
         }
 
-        return getOrCreateReader(annotation, readerArgument, declaredName, target);
+        return creator.create(annotation, readerArgument, declaredName, target);
     }
 
     /**
@@ -160,13 +212,142 @@ public class PulsarReaderFactory implements AutoCloseable, PulsarReaderRegistry
 
         final String target = methodInvocationContext.getExecutableMethod().getDescription(false);
         final String declaredName = methodInvocationContext.getExecutableMethod().getName();
-        return getOrCreateReader(annotationValue, returnType, declaredName, target);
+        final TopicResolver.TopicResolved topicResolved = TopicResolver.extractTopic(annotationValue);
+        if (!topicResolved.isDynamicTenant()) {
+            return getOrCreateReader(annotationValue, returnType, declaredName, target);
+        }
+        final String name = annotationValue.stringValue("readerName").orElse(declaredName);
+        final String readerId = topicResolver.generateIdFromMessagingClientName(name, topicResolved);
+        tenantReaderNames.putIfAbsent(name, topicResolved);
+        final Reader<?> cached = tenantReaders.acquire(readerId);
+        if (null != cached) {
+            return leased(readerId, cached);
+        }
+        final Schema<?> schema = schema(annotationValue, returnType, target);
+        final String topic = topicResolver.resolve(topicResolved.getTopic());
+        final Reader<?> reader = checkpointed(annotationValue, readerId,
+            readerBuilder(annotationValue, schema, readerId, topic, target).create());
+        final Reader<?> result = tenantReaders.acquireIfAbsent(readerId, reader);
+        if (result != reader) {
+            reader.closeAsync();
+        }
+        scheduleIdleEviction();
+        return leased(readerId, result);
+    }
+
+    /**
+     * Readers returned to reader methods stay in use until the returned iterator, stream or publisher completes, so
+     * they are leased from the cache instead of being evicted while messages are still being read.
+     */
+    private <T> Reader<T> leased(final String readerId, final Reader<T> reader) {
+        return new LeasedReader<>(reader, () -> tenantReaders.release(readerId, reader));
+    }
+
+    /**
+     * Readers of dynamic tenant topics are created per tenant on demand thus unused ones are closed periodically even
+     * if no other reader is requested in the meantime.
+     */
+    private void scheduleIdleEviction() {
+        if (tenantReaderIdleTimeout.isZero() || tenantReaderIdleTimeout.isNegative()
+            || !idleEvictionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        idleEviction = taskScheduler.get().scheduleAtFixedRate(tenantReaderIdleTimeout, tenantReaderIdleTimeout,
+            tenantReaders::evictIdle);
     }
 
     private Reader<?> getOrCreateReader(final AnnotationValue<PulsarReader> annotation,
                                         final Argument<?> readerArgument,
                                         final String declaredName,
                                         final String target) throws PulsarClientException {
+        final TopicResolver.TopicResolved topicResolved = TopicResolver.extractTopic(annotation);
+        final String name = annotation.stringValue("readerName").orElse(declaredName);
+        final String readerId = topicResolver.generateIdFromMessagingClientName(name, topicResolved);
+        if (readers.containsKey(readerId)) {
+            return readers.get(readerId);
+        }
+        final Schema<?> schema = schema(annotation, readerArgument, target);
+        final String topic = topicResolver.resolve(topicResolved.getTopic());
+        final Reader<?> reader = checkpointed(annotation, readerId,
+            readerBuilder(annotation, schema, readerId, topic, target).create());
+        readers.put(readerId, reader);
+        return reader;
+    }
+
+    private PartitionedReader<?> getOrCreatePartitionedReader(final AnnotationValue<PulsarReader> annotation,
+                                                              final Argument<?> readerArgument,
+                                                              final String declaredName,
+                                                              final String target) throws PulsarClientException {
+        final TopicResolver.TopicResolved topicResolved = TopicResolver.extractTopic(annotation);
+        final String name = annotation.stringValue("readerName").orElse(declaredName);
+        final String readerId = topicResolver.generateIdFromMessagingClientName(name, topicResolved);
+        final PartitionedReader<?> existing = partitionedReaders.get(readerId);
+        if (null != existing) {
+            return existing;
+        }
+        final Schema<?> schema = schema(annotation, readerArgument, target);
+        final String topic = topicResolver.resolve(topicResolved.getTopic());
+        final List<String> partitions;
+        try {
+            partitions = pulsarClient.getPartitionsForTopic(topic).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw PulsarClientException.unwrap(e);
+        } catch (ExecutionException e) {
+            throw PulsarClientException.unwrap(e);
+        }
+        final PartitionedReader<?> reader = createPartitionedReader(annotation, schema, readerId, topic, partitions,
+            target);
+        final PartitionedReader<?> concurrent = partitionedReaders.putIfAbsent(readerId, reader);
+        if (null != concurrent) {
+            reader.close();
+            return concurrent;
+        }
+        final List<? extends Reader<?>> partitionReaders = reader.getPartitionReaders();
+        for (int i = 0; i < partitionReaders.size(); i++) {
+            readers.put(readerId + "-" + i, partitionReaders.get(i));
+        }
+        return reader;
+    }
+
+    /**
+     * Create readers of all partitions; if any of them fails the ones already created are closed.
+     */
+    private <T> PartitionedReader<T> createPartitionedReader(final AnnotationValue<PulsarReader> annotation,
+                                                             final Schema<T> schema,
+                                                             final String readerId,
+                                                             final String topic,
+                                                             final List<String> partitions,
+                                                             final String target) throws PulsarClientException {
+        // create partition readers concurrently as each one waits for the broker
+        final List<CompletableFuture<Reader<T>>> creating = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            creating.add(readerBuilder(annotation, schema, readerId + "-" + i, partitions.get(i), target).createAsync());
+        }
+        final List<Reader<T>> partitionReaders = new ArrayList<>(partitions.size());
+        try {
+            for (int i = 0; i < creating.size(); i++) {
+                partitionReaders.add(checkpointed(annotation, readerId + "-" + i, creating.get(i).get()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closeAll(creating);
+            throw PulsarClientException.unwrap(e);
+        } catch (ExecutionException e) {
+            closeAll(creating);
+            throw PulsarClientException.unwrap(e);
+        }
+        return new PartitionedReader<>(topic, partitionReaders, ioExecutor.get());
+    }
+
+    private static <T> void closeAll(final List<CompletableFuture<Reader<T>>> creating) {
+        // readers still being created are closed once they are
+        creating.forEach(x -> x.thenAccept(Reader::closeAsync));
+    }
+
+    private Schema<?> schema(final AnnotationValue<PulsarReader> annotation,
+                             final Argument<?> readerArgument,
+                             final String target) {
         final Argument<?> keyClass;
         final Argument<?> messageBodyType;
         if (KeyValue.class.isAssignableFrom(readerArgument.getType())) {
@@ -181,35 +362,98 @@ public class PulsarReaderFactory implements AutoCloseable, PulsarReaderRegistry
             }
             keyClass = null;
         }
+        return simpleSchemaResolver.decideSchema(messageBodyType, keyClass, annotation, target);
+    }
 
-        final TopicResolver.TopicResolved topicResolved = TopicResolver.extractTopic(annotation);
-        final String name = annotation.stringValue("readerName").orElse(declaredName);
-        final String readerId = topicResolver.generateIdFromMessagingClientName(name, topicResolved);
-        if (readers.containsKey(readerId)) {
-            return readers.get(readerId);
-        }
-        final Schema<?> schema = simpleSchemaResolver.decideSchema(messageBodyType, keyClass, annotation, target);
-        final String topic = topicResolver.resolve(topicResolved.getTopic());
-
-        final MessageId startMessageId;
-        if (annotation.getRequiredValue("startMessageLatest", boolean.class)) {
-            startMessageId = MessageId.latest;
-        } else {
-            startMessageId = MessageId.earliest;
-        }
+    private <T> ReaderBuilder<T> readerBuilder(final AnnotationValue<PulsarReader> annotation,
+                                               final Schema<T> schema,
+                                               final String readerName,
+                                               final String topic,
+                                               final String target) {
         final Optional<String> subscriptionName = annotation.stringValue("subscriptionName");
-        final ReaderBuilder<?> readerBuilder = pulsarClient.newReader(schema)
-            .startMessageId(startMessageId)
-            .readerName(readerId)
+        final ReaderBuilder<T> readerBuilder = pulsarClient.newReader(schema)
+            .readerName(readerName)
             .topic(topic);
+        final Optional<Duration> rollback = annotation.stringValue("startMessageFromRollbackDuration")
+            .filter(StringUtils::isNotEmpty)
+            .map(x -> parseRollback(x, target));
+        final Optional<MessageId> checkpoint = isCheckpointed(annotation, topic, target)
+            ? checkpointStore.get().load(readerName)
+            : Optional.empty();
+        if (checkpoint.isPresent()) {
+            // start message is exclusive by default so reader continues after the last message it read
+            readerBuilder.startMessageId(checkpoint.get());
+        } else if (rollback.isPresent()) {
+            // Pulsar rejects readers having both start message id and rollback duration
+            readerBuilder.startMessageFromRollbackDuration(rollback.get().toMillis(), TimeUnit.MILLISECONDS);
+        } else if (annotation.getRequiredValue("startMessageLatest", boolean.class)) {
+            readerBuilder.startMessageId(MessageId.latest);
+        } else {
+            readerBuilder.startMessageId(MessageId.earliest);
+        }
         subscriptionName.ifPresent(readerBuilder::subscriptionName);
-        final Reader<?> reader = readerBuilder.create();
-        readers.put(readerId, reader);
-        return reader;
+        return readerBuilder;
+    }
+
+    private boolean isCheckpointed(final AnnotationValue<PulsarReader> annotation,
+                                   final String topic,
+                                   final String target) {
+        if (!annotation.booleanValue("checkpoint").orElse(false)) {
+            return false;
+        }
+        if (!checkpointStore.isPresent()) {
+            throw new ConfigurationException(String.format(
+                "Reader %s uses checkpoint but pulsar.reader-checkpoints.enabled is not set",
+                target
+            ));
+        }
+        if (isPartitioned(topic)) {
+            // single stored position can't be applied to all partitions
+            throw new ConfigurationException(String.format(
+                "Reader %s uses checkpoint on partitioned topic %s; use PartitionedReader instead",
+                target,
+                topic
+            ));
+        }
+        return true;
+    }
+
+    private boolean isPartitioned(final String topic) {
+        final List<String> partitions;
+        try {
+            partitions = pulsarClient.getPartitionsForTopic(topic).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfigurationException("Interrupted while looking up partitions of " + topic, e);
+        } catch (ExecutionException e) {
+            throw new ConfigurationException("Failed to look up partitions of " + topic, e.getCause());
+        }
+        return partitions.size() != 1 || !TopicName.get(partitions.get(0)).equals(TopicName.get(topic));
+    }
+
+    private <T> Reader<T> checkpointed(final AnnotationValue<PulsarReader> annotation,
+                                       final String readerName,
+                                       final Reader<T> reader) {
+        if (!annotation.booleanValue("checkpoint").orElse(false)) {
+            return reader;
+        }
+        return new CheckpointingReader<>(reader, readerName, checkpointStore.get());
+    }
+
+    private static Duration parseRollback(final String value, final String target) {
+        try {
+            return Duration.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new ConfigurationException("Invalid startMessageFromRollbackDuration value for reader " + target, ex);
+        }
     }
 
     @Override
     public void close() {
+        final ScheduledFuture<?> eviction = idleEviction;
+        if (null != eviction) {
+            eviction.cancel(false);
+        }
         for (final Reader<?> reader : readers.values()) {
             try {
                 reader.close();
@@ -217,16 +461,71 @@ public class PulsarReaderFactory implements AutoCloseable, PulsarReaderRegistry
                 LOG.warn("Error shutting down Pulsar reader: {}", e.getMessage(), e);
             }
         }
+        for (final Reader<?> reader : tenantReaders.clear()) {
+            try {
+                reader.close();
+            } catch (Exception e) {
+                LOG.warn("Error shutting down Pulsar reader: {}", e.getMessage(), e);
+            }
+        }
         readers.clear();
+        partitionedReaders.clear();
     }
 
     @Override
     public Reader<?> getReader(final String identifier) {
-        return readers.get(identifier);
+        final Reader<?> reader = readers.get(identifier);
+        return null != reader ? reader : tenantReaders.peek(identifier);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeReader(final String identifier) {
+        Reader<?> reader = readers.remove(identifier);
+        if (null == reader) {
+            reader = tenantReaders.remove(identifier);
+        }
+        return null == reader ? CompletableFuture.completedFuture(null) : reader.closeAsync();
+    }
+
+    /**
+     * Remove and close readers created for dynamic tenant topics of given tenant.
+     *
+     * @param tenantName tenant name as used in topics
+     * @return future completed once all readers of the tenant are closed
+     * @since 1.3.0
+     */
+    public CompletableFuture<Void> removeTenantReaders(final String tenantName) {
+        final TopicResolver tenantTopicResolver = topicResolver.forTenant(tenantName);
+        return CompletableFuture.allOf(tenantReaderNames.entrySet().stream()
+            .map(x -> tenantTopicResolver.generateIdFromMessagingClientName(x.getKey(), x.getValue()))
+            .map(tenantReaders::remove)
+            .filter(Objects::nonNull)
+            .map(Reader::closeAsync)
+            .toArray(CompletableFuture[]::new));
     }
 
     @Override
     public Collection<Reader<?>> getReaders() {
-        return readers.values();
+        final List<Reader<?>> all = new ArrayList<>(readers.values());
+        all.addAll(tenantReaders.values());
+        return all;
+    }
+
+    /**
+     * Readers of topics with dynamic tenant are kept in a bounded cache; this exposes its hit, miss and eviction counts.
+     *
+     * @return cache of readers created for dynamic tenant topics
+     * @since 1.3.0
+     */
+    public PulsarClientCache<Reader<?>> getTenantReaderCache() {
+        return tenantReaders;
+    }
+
+    @FunctionalInterface
+    private interface ReaderCreator<R> {
+        R create(AnnotationValue<PulsarReader> annotation,
+                 Argument<?> readerArgument,
+                 String declaredName,
+                 String target) throws PulsarClientException;
     }
 }
@@ -18,6 +18,7 @@ package io.micronaut.pulsar;
 import org.apache.pulsar.client.api.Reader;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Keeps track of all created Pulsar readers.
@@ -39,4 +40,20 @@ public interface PulsarReaderRegistry {
      * @return all registered Pulsar Readers
      */
     Collection<Reader<?>> getReaders();
+
+    /**
+     * Remove reader from the registry and close it.
+     *
+     * @param identifier unique identifier for a reader
+     * @return future completed once reader is closed; completed immediately if reader doesn't exist
+     *         or completed exceptionally with {@link UnsupportedOperationException} if registry doesn't support
+     *         removal which is the default
+     * @since 1.3.0
+     */
+    default CompletableFuture<Void> removeReader(final String identifier) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        result.completeExceptionally(new UnsupportedOperationException(
+            "Reader removal is not supported by " + getClass().getName()));
+        return result;
+    }
 }
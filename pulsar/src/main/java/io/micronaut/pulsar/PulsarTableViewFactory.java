@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar;
+
+import io.micronaut.context.BeanResolutionContext;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Prototype;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.ArgumentInjectionPoint;
+import io.micronaut.inject.FieldInjectionPoint;
+import io.micronaut.inject.InjectionPoint;
+import io.micronaut.pulsar.annotation.PulsarTableView;
+import io.micronaut.pulsar.processor.DefaultSchemaHandler;
+import io.micronaut.pulsar.processor.TopicResolver;
+import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.api.TableView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Create Pulsar table view beans for fields and arguments annotated with {@link PulsarTableView}. Table views are
+ * shared by name and topic so multiple injection points referring to the same view load the topic only once.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Factory
+public class PulsarTableViewFactory implements AutoCloseable, PulsarTableViewRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PulsarTableViewFactory.class);
+
+    private final Map<String, TableView<?>> tableViews = new ConcurrentHashMap<>();
+    private final PulsarClient pulsarClient;
+    private final DefaultSchemaHandler simpleSchemaResolver;
+    private final TopicResolver topicResolver;
+
+    public PulsarTableViewFactory(final PulsarClient pulsarClient,
+                                  final DefaultSchemaHandler simpleSchemaResolver,
+                                  final TopicResolver topicResolver) {
+        this.pulsarClient = pulsarClient;
+        this.simpleSchemaResolver = simpleSchemaResolver;
+        this.topicResolver = topicResolver;
+    }
+
+    /**
+     * Create Pulsar TableView for given injection point if missing. Blocks until all existing messages of the topic
+     * are loaded so injected view is never partially populated.
+     *
+     * @param context injection point of {@code TableView<?>}
+     * @return new instance of Pulsar table view if missing; otherwise return from cache
+     * @throws PulsarClientException in case of not being able to create such TableView
+     */
+    @Prototype
+    @SuppressWarnings("unchecked")
+    public TableView<?> getTableViewByInjectionPoint(final BeanResolutionContext context) throws PulsarClientException {
+        final InjectionPoint<?> injectionPoint = context.getPath().currentSegment()
+            .orElseThrow(() ->
+                new IllegalStateException("Could not resolve current injection context while creating a table view"))
+            .getInjectionPoint();
+        final AnnotationValue<PulsarTableView> annotation = injectionPoint.getAnnotation(PulsarTableView.class);
+        if (null == annotation) {
+            throw new IllegalStateException("Failed to get value for bean annotated with PulsarTableView");
+        }
+
+        final Argument<?> valueArgument;
+        final String declaredName;
+        final String target;
+        if (injectionPoint instanceof ArgumentInjectionPoint) {
+            final ArgumentInjectionPoint<?, TableView<?>> argumentInjection = (ArgumentInjectionPoint<?, TableView<?>>) injectionPoint;
+            valueArgument = argumentInjection.getArgument().getFirstTypeVariable().orElse(Argument.of(byte[].class));
+            declaredName = argumentInjection.getArgument().getName();
+            target = argumentInjection.getDeclaringBean().getName() + " " + declaredName;
+        } else if (injectionPoint instanceof FieldInjectionPoint) {
+            final FieldInjectionPoint<?, TableView<?>> fieldInjection = (FieldInjectionPoint<?, TableView<?>>) injectionPoint;
+            valueArgument = fieldInjection.asArgument().getFirstTypeVariable().orElse(Argument.of(byte[].class));
+            declaredName = fieldInjection.getName();
+            target = fieldInjection.getDeclaringBean().getName() + "::" + declaredName;
+        } else {
+            valueArgument = Argument.of(byte[].class);
+            declaredName = injectionPoint.getDeclaringBean().getName();
+            target = declaredName;
+        }
+
+        return getOrCreateTableView(annotation, valueArgument, declaredName, target);
+    }
+
+    private TableView<?> getOrCreateTableView(final AnnotationValue<PulsarTableView> annotation,
+                                              final Argument<?> valueArgument,
+                                              final String declaredName,
+                                              final String target) throws PulsarClientException {
+        if (!annotation.stringValue("topic").filter(StringUtils::hasText).isPresent()) {
+            throw new ConfigurationException(String.format("Missing topic for table view in %s", target));
+        }
+        final TopicResolver.TopicResolved topicResolved = TopicResolver.extractTopic(annotation);
+        if (topicResolved.isDynamicTenant()) {
+            throw new ConfigurationException(String.format(
+                "Cannot use dynamic tenant in topics for table views in %s",
+                target
+            ));
+        }
+        final String name = annotation.stringValue("name").orElse(declaredName);
+        final String tableViewId = topicResolver.generateIdFromMessagingClientName(name, topicResolved);
+        final TableView<?> existing = tableViews.get(tableViewId);
+        if (null != existing) {
+            return existing;
+        }
+        final Schema<?> schema = simpleSchemaResolver.decideSchema(valueArgument, null, annotation, target);
+        final String topic = topicResolver.resolve(topicResolved.getTopic());
+        final int partitionsInterval = annotation.intValue("autoUpdatePartitionsInterval").orElse(60);
+        final TableView<?> tableView = pulsarClient.newTableViewBuilder(schema)
+            .topic(topic)
+            .autoUpdatePartitionsInterval(partitionsInterval, SECONDS)
+            .create();
+        final TableView<?> raced = tableViews.putIfAbsent(tableViewId, tableView);
+        if (null != raced) {
+            tableView.closeAsync();
+            return raced;
+        }
+        return tableView;
+    }
+
+    @Override
+    public void close() {
+        for (final TableView<?> tableView : tableViews.values()) {
+            try {
+                tableView.close();
+            } catch (Exception e) {
+                LOG.warn("Error shutting down Pulsar table view: {}", e.getMessage(), e);
+            }
+        }
+        tableViews.clear();
+    }
+
+    @Override
+    public TableView<?> getTableView(final String identifier) {
+        return tableViews.get(identifier);
+    }
+
+    @Override
+    public Collection<TableView<?>> getTableViews() {
+        return tableViews.values();
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar;
+
+import org.apache.pulsar.client.api.TableView;
+
+import java.util.Collection;
+
+/**
+ * Keeps track of all created Pulsar table views.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+public interface PulsarTableViewRegistry {
+
+    /**
+     * If not specified explicitly, table view name will default to property/field name.
+     *
+     * @param identifier unique identifier for a table view
+     * @return Pulsar TableView if found for a given name
+     */
+    TableView<?> getTableView(String identifier);
+
+    /**
+     * @return all registered Pulsar TableViews
+     */
+    Collection<TableView<?>> getTableViews();
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar;
+
+import io.micronaut.core.annotation.NonNull;
+import org.apache.pulsar.client.api.MessageId;
+
+import java.util.Optional;
+
+/**
+ * Stores positions of readers so they can resume after application restart. Used by readers with
+ * {@link io.micronaut.pulsar.annotation.PulsarReader#checkpoint()} enabled.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+public interface ReaderCheckpointStore {
+
+    /**
+     * @param readerId unique reader identifier
+     * @return ID of the last message read by the reader before; empty if reader wasn't checkpointed
+     */
+    @NonNull
+    Optional<MessageId> load(@NonNull String readerId);
+
+    /**
+     * Remember position of a reader. Implementations are expected to persist positions asynchronously as this is
+     * called for each message read.
+     *
+     * @param readerId  unique reader identifier
+     * @param messageId ID of the last message read
+     */
+    void update(@NonNull String readerId, @NonNull MessageId messageId);
+}
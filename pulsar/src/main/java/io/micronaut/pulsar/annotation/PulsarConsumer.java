@@ -112,6 +112,16 @@ public @interface PulsarConsumer {
      */
     KeyValueEncodingType keyEncoding() default KeyValueEncodingType.INLINE;
 
+    /**
+     * Enables decompression of payloads compressed by producers with a Zstandard dictionary. Dictionary is picked by
+     * id carried in each payload so any dictionary registered in
+     * {@link io.micronaut.pulsar.schemas.zstd.ZstdDictionaryRegistry} is used; uncompressed payloads are read as is.
+     *
+     * @return Name of the dictionary producers use; empty to disable
+     * @since 1.3.0
+     */
+    String compressionDictionary() default "";
+
     /**
      * @return Consumer name for more descriptive monitoring
      */
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Filters messages delivered to a {@link PulsarConsumer} method by message key or properties. Filters are evaluated
+ * before the message body is deserialized and messages that don't match are acknowledged without invoking the method.
+ * <p>
+ * All attributes set on a single filter must match and, when repeated, all filters must match.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+@Repeatable(PulsarFilters.class)
+public @interface PulsarFilter {
+
+    /**
+     * If neither {@link #value()} nor {@link #pattern()} is set, message only needs to have this property.
+     *
+     * @return Name of the message property to check
+     */
+    String property() default "";
+
+    /**
+     * @return Value that {@link #property()} must be equal to
+     */
+    String value() default "";
+
+    /**
+     * Regular expression matched against the whole value of {@link #property()} or, if property is not set, against
+     * the message key. Can't be combined with {@link #value()}.
+     *
+     * @return Pattern that property value or message key must match
+     */
+    String pattern() default "";
+
+    /**
+     * @return Prefix message key must start with
+     */
+    String keyPrefix() default "";
+}
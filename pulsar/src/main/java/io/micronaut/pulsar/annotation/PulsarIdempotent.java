@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.annotation;
+
+import javax.validation.constraints.Min;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a {@link PulsarConsumer} method as idempotent consumer. Recently processed messages are remembered in a
+ * bounded in-memory cache and redeliveries of such messages (ack timeouts, negative acknowledgements, failovers) are
+ * acknowledged and skipped before the message body is deserialized.
+ * <p>
+ * Cache is local to the application instance so it only protects against redeliveries to the same consumer.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface PulsarIdempotent {
+
+    /**
+     * By default, Pulsar message ID is used to detect duplicates. Set this to a name of the message property that
+     * carries business key if the same logical message can be sent more than once by producers. Messages without
+     * such property fall back to message ID.
+     *
+     * @return Name of the message property to use as deduplication key
+     */
+    String keyProperty() default "";
+
+    /**
+     * Oldest entries are evicted once the limit is reached.
+     *
+     * @return Maximum number of processed messages to remember
+     */
+    @Min(1)
+    int maxSize() default 10_000;
+
+    /**
+     * Must be {@link java.time.Duration} parsable string. Should be longer than the ack timeout and negative
+     * acknowledgement delay of the consumer or else redeliveries will not be detected.
+     *
+     * @return How long to remember processed message
+     */
+    String expireAfter() default "PT10M";
+}
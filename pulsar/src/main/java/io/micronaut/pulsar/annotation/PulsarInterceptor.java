@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.annotation;
+
+import io.micronaut.context.annotation.AliasFor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Restricts beans of {@link org.apache.pulsar.client.api.ConsumerInterceptor} or
+ * {@link org.apache.pulsar.client.api.interceptor.ProducerInterceptor} type to consumers and producers whose topics
+ * match given pattern. Interceptor beans without this annotation are applied to all consumers and producers.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface PulsarInterceptor {
+
+    /**
+     * @return Same as {@link #topicsPattern()}
+     */
+    @AliasFor(member = "topicsPattern")
+    String value() default "";
+
+    /**
+     * Regular expression matched against resolved topic names of a consumer or a producer. For consumers using
+     * {@link PulsarConsumer#topicsPattern()} it's matched against the pattern itself.
+     *
+     * @return Topic name pattern
+     */
+    @AliasFor(member = "value")
+    String topicsPattern() default "";
+}
@@ -94,6 +94,15 @@ public @interface PulsarProducer {
      */
     CompressionType compressionType() default NONE;
 
+    /**
+     * Name of a Zstandard dictionary from {@link io.micronaut.pulsar.schemas.zstd.ZstdDictionaryRegistry} used to
+     * compress each message payload. Unlike {@link #compressionType()} it works well for small or unbatched messages.
+     *
+     * @return Dictionary name; empty to disable
+     * @since 1.3.0
+     */
+    String compressionDictionary() default "";
+
     /**
      * @return Message routing mode.
      */
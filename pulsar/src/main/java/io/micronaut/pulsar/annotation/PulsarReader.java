@@ -94,6 +94,16 @@ public @interface PulsarReader {
      */
     KeyValueEncodingType keyEncoding() default KeyValueEncodingType.INLINE;
 
+    /**
+     * Enables decompression of payloads compressed by producers with a Zstandard dictionary. Dictionary is picked by
+     * id carried in each payload so any dictionary registered in
+     * {@link io.micronaut.pulsar.schemas.zstd.ZstdDictionaryRegistry} is used; uncompressed payloads are read as is.
+     *
+     * @return Name of the dictionary producers use; empty to disable
+     * @since 1.3.0
+     */
+    String compressionDictionary() default "";
+
     /**
      * @return Reader name.
      */
@@ -114,6 +124,27 @@ public @interface PulsarReader {
      */
     boolean startMessageLatest() default true;
 
+    /**
+     * Must be {@link java.time.Duration} parsable string. If set, reader starts from the first message published within
+     * the given duration before reader creation and {@link #startMessageLatest()} is ignored. Useful for rebuilding
+     * state from a recent time window without reading the whole topic.
+     *
+     * @return Time window to roll back to on reader creation
+     * @since 1.3.0
+     */
+    String startMessageFromRollbackDuration() default "";
+
+    /**
+     * Requires {@code pulsar.reader-checkpoints.enabled} to be set. Reader records the last message read in
+     * {@link io.micronaut.pulsar.ReaderCheckpointStore} and, when created again after restart, continues after that
+     * message instead of starting from {@link #startMessageLatest()} or {@link #startMessageFromRollbackDuration()}.
+     * Partitioned topics are supported only by {@link io.micronaut.pulsar.PartitionedReader}.
+     *
+     * @return Whether to persist reader position between application restarts
+     * @since 1.3.0
+     */
+    boolean checkpoint() default false;
+
     /**
      * Ignored on {@link org.apache.pulsar.client.api.Reader#readNextAsync()}.
      * Use -1 for no timeout (default).
@@ -130,4 +161,16 @@ public @interface PulsarReader {
      * @return Time unit for {@link #readTimeout()}.
      */
     TimeUnit timeoutUnit() default TimeUnit.SECONDS;
+
+    /**
+     * Used only by methods returning multiple messages like {@link java.util.List}, {@link java.util.stream.Stream},
+     * {@link java.util.Iterator} or reactive streams that are not single value types. Such methods read until there are
+     * no more messages available on the topic, until this many messages are read, or until {@link #readTimeout()}
+     * elapses, whichever comes first. Use 0 for no limit (default).
+     *
+     * @return Maximum number of messages to read per method call.
+     * @since 1.3.0
+     */
+    @Min(0)
+    int maxMessages() default 0;
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a {@link PulsarConsumer} method as one of the routes of a shared consumer. Methods of the same bean with the
+ * same {@link PulsarConsumer#consumerName()} and topic share a single Pulsar consumer and each message is dispatched
+ * to the method whose {@link #value()} equals the value of message {@link #property()}.
+ * <p>
+ * Consumer settings are taken from the first method of the group. All routes must accept the same body and key types
+ * as the consumer has a single schema. Messages without a matching route are acknowledged and skipped.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface PulsarRoute {
+
+    /**
+     * @return Value of the {@link #property()} routed to this method
+     */
+    String value();
+
+    /**
+     * Must be the same on all routes of the consumer.
+     *
+     * @return Name of the message property that holds the route key
+     */
+    String property() default "type";
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.annotation;
+
+import io.micronaut.context.annotation.AliasFor;
+import io.micronaut.pulsar.MessageSchema;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static io.micronaut.pulsar.MessageSchema.BYTES;
+import static io.micronaut.pulsar.config.AbstractPulsarConfiguration.TOPIC_NAME_VALIDATOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Create and inject Pulsar {@link org.apache.pulsar.client.api.TableView} into a field or a parameter. Table view
+ * keeps the latest value for each message key of a topic in memory, which makes it suitable for compacted topics used
+ * as lookup tables. Injection blocks until existing messages of the topic are loaded.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({PARAMETER, FIELD})
+public @interface PulsarTableView {
+
+    /**
+     * @return topic name to load
+     * @see #topic()
+     */
+    @AliasFor(member = "topic")
+    String value() default "";
+
+    /**
+     * Dynamic tenant is not supported for table views.
+     *
+     * @return topic name to load
+     */
+    @AliasFor(member = "value")
+    @Pattern(regexp = TOPIC_NAME_VALIDATOR)
+    String topic() default "";
+
+    /**
+     * Defaults to {@link MessageSchema#BYTES} as default value for Pulsar {@link org.apache.pulsar.client.api.Schema}
+     * is {@code byte[]}.
+     *
+     * @return Schema to use for message values
+     */
+    MessageSchema schema() default BYTES;
+
+    /**
+     * If not set, defaults to field or argument name. Used as identifier in
+     * {@link io.micronaut.pulsar.PulsarTableViewRegistry}.
+     *
+     * @return Table view name
+     */
+    String name() default "";
+
+    /**
+     * @return Interval in seconds for checking new partitions of partitioned topic
+     */
+    @Min(1)
+    int autoUpdatePartitionsInterval() default 60;
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+
+import java.time.Duration;
+
+import static io.micronaut.pulsar.config.AbstractPulsarConfiguration.PREFIX;
+import static io.micronaut.pulsar.config.PulsarReaderCheckpointConfiguration.CHECKPOINTS_PREFIX;
+
+/**
+ * Configuration of the local store for reader positions used by readers with
+ * {@link io.micronaut.pulsar.annotation.PulsarReader#checkpoint()} enabled.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@ConfigurationProperties(CHECKPOINTS_PREFIX)
+@Requires(property = CHECKPOINTS_PREFIX + ".enabled", value = StringUtils.TRUE)
+public final class PulsarReaderCheckpointConfiguration {
+
+    public static final String CHECKPOINTS_PREFIX = PREFIX + ".reader-checkpoints";
+
+    private boolean enabled;
+    private String path = "pulsar-reader-checkpoints.log";
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /**
+     * @return Whether reader checkpoints are enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Enable storing reader positions locally. Default false.
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return Path to the checkpoint log file
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @param path Path to the append-only file holding reader positions. Default pulsar-reader-checkpoints.log.
+     */
+    public void setPath(final String path) {
+        this.path = path;
+    }
+
+    /**
+     * @return Interval between writes of reader positions to the file
+     */
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * @param flushInterval How often to write changed reader positions to the file. Default 5 seconds.
+     */
+    public void setFlushInterval(final Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+import static io.micronaut.pulsar.config.AbstractPulsarConfiguration.PREFIX;
+import static io.micronaut.pulsar.config.PulsarTenantCacheConfiguration.TENANT_CACHE_PREFIX;
+
+/**
+ * Bounds for caches of Pulsar clients created on demand for topics with dynamic tenant. Such clients are evicted and
+ * closed once idle for too long or once the cache grows past its maximum size. Reader eviction is disabled by default
+ * since evicted readers lose their reading position.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@ConfigurationProperties(TENANT_CACHE_PREFIX)
+public final class PulsarTenantCacheConfiguration {
+
+    public static final String TENANT_CACHE_PREFIX = PREFIX + ".tenant-cache";
+
+    private int maxReaders;
+    private Duration readerIdleTimeout = Duration.ZERO;
+    private int maxProducers = 1000;
+    private Duration producerIdleTimeout = Duration.ofMinutes(10);
+    private int maxTenants = 1000;
+
+    /**
+     * @return Maximum number of cached readers of dynamic tenant topics
+     */
+    public int getMaxReaders() {
+        return maxReaders;
+    }
+
+    /**
+     * @param maxReaders Maximum number of cached readers of dynamic tenant topics; 0 for unbounded. Default 0.
+     */
+    public void setMaxReaders(final int maxReaders) {
+        this.maxReaders = maxReaders;
+    }
+
+    /**
+     * @return Time after which unused reader of dynamic tenant topic is closed
+     */
+    public Duration getReaderIdleTimeout() {
+        return readerIdleTimeout;
+    }
+
+    /**
+     * @param readerIdleTimeout Time after which unused reader of dynamic tenant topic is closed; 0 to keep readers
+     *                          until shutdown. Default 0.
+     */
+    public void setReaderIdleTimeout(final Duration readerIdleTimeout) {
+        this.readerIdleTimeout = readerIdleTimeout;
+    }
+
+    /**
+     * @return Maximum number of cached producers of dynamic tenant topics
+     */
+    public int getMaxProducers() {
+        return maxProducers;
+    }
+
+    /**
+     * @param maxProducers Maximum number of cached producers of dynamic tenant topics; 0 for unbounded. Default 1000.
+     */
+    public void setMaxProducers(final int maxProducers) {
+        this.maxProducers = maxProducers;
+    }
+
+    /**
+     * @return Time after which unused producer of dynamic tenant topic is closed
+     */
+    public Duration getProducerIdleTimeout() {
+        return producerIdleTimeout;
+    }
+
+    /**
+     * @param producerIdleTimeout Time after which unused producer of dynamic tenant topic is closed; 0 to keep
+     *                            producers until shutdown. Default 10 minutes.
+     */
+    public void setProducerIdleTimeout(final Duration producerIdleTimeout) {
+        this.producerIdleTimeout = producerIdleTimeout;
+    }
+
+    /**
+     * @return Maximum number of tenants whose validated names and resolved topic names are cached
+     */
+    public int getMaxTenants() {
+        return maxTenants;
+    }
+
+    /**
+     * @param maxTenants Maximum number of tenants whose validated names and resolved topic names are cached; 0 for
+     *                   unbounded. Default 1000.
+     */
+    public void setMaxTenants(final int maxTenants) {
+        this.maxTenants = maxTenants;
+    }
+}
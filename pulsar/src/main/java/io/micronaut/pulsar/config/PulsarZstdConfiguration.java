@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.convert.format.ReadableBytes;
+
+import static io.micronaut.pulsar.config.AbstractPulsarConfiguration.PREFIX;
+import static io.micronaut.pulsar.config.PulsarZstdConfiguration.ZSTD_PREFIX;
+
+/**
+ * Limits applied when consumers and readers decompress payloads compressed with Zstandard dictionaries.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@ConfigurationProperties(ZSTD_PREFIX)
+public final class PulsarZstdConfiguration {
+
+    public static final String ZSTD_PREFIX = PREFIX + ".zstd";
+
+    private int maxDecompressedSize = 16 * 1024 * 1024;
+
+    /**
+     * @return Maximum size in bytes of a decompressed message payload
+     */
+    public int getMaxDecompressedSize() {
+        return maxDecompressedSize;
+    }
+
+    /**
+     * @param maxDecompressedSize Maximum size of a decompressed message payload, like {@code 16MB}; larger payloads
+     *                            are rejected instead of being decompressed. Default 16MB.
+     */
+    public void setMaxDecompressedSize(@ReadableBytes final int maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.config;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+
+import static io.micronaut.pulsar.config.AbstractPulsarConfiguration.PREFIX;
+import static io.micronaut.pulsar.config.PulsarZstdDictionaryConfiguration.ZSTD_DICTIONARIES_PREFIX;
+
+/**
+ * Zstandard dictionary trained offline, for example with {@code zstd --train}, used to compress message payloads of
+ * producers and consumers that reference it by name.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@EachProperty(ZSTD_DICTIONARIES_PREFIX)
+public final class PulsarZstdDictionaryConfiguration {
+
+    public static final String ZSTD_DICTIONARIES_PREFIX = PREFIX + ".zstd-dictionaries";
+
+    private final String name;
+    private String path;
+    private int level = 3;
+
+    public PulsarZstdDictionaryConfiguration(@Parameter final String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return Dictionary name used in annotations
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Location of the dictionary
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @param path Location of the dictionary; {@code classpath:} and {@code file:} prefixes are supported.
+     */
+    public void setPath(final String path) {
+        this.path = path;
+    }
+
+    /**
+     * @return Compression level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @param level Compression level used by producers. Default 3.
+     */
+    public void setLevel(final int level) {
+        this.level = level;
+    }
+}
@@ -57,6 +57,7 @@ import java.util.stream.Collectors;
 public class PulsarProducerAdvice implements MethodInterceptor<Object, Object>, AutoCloseable, PulsarProducerRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(PulsarProducerAdvice.class);
+    private static final Runnable NO_RELEASE = () -> { };
 
     protected final Map<String, Producer<?>> producers = new ConcurrentHashMap<>();
     protected final PulsarClient pulsarClient;
@@ -102,10 +103,17 @@ public class PulsarProducerAdvice implements MethodInterceptor<Object, Object>,
         final Map<String, String> headers = collectHeaders(context);
         final ExecutableMethod<?, ?> method = context.getExecutableMethod();
         final Producer<?> producer = getOrCreateProducer(method, annotationValue);
+        final Runnable release = releaseAction(method, producer);
         final ReturnType<?> returnType = method.getReturnType();
 
         if (returnType.isAsyncOrReactive()) {
-            Object abstractValue = sendAsync(value, producer, returnType, key, headers);
+            final Object abstractValue;
+            try {
+                abstractValue = sendAsync(value, producer, returnType, key, headers, release);
+            } catch (RuntimeException e) {
+                release.run();
+                throw e;
+            }
             if (isAbstract) {
                 return abstractValue;
             }
@@ -125,6 +133,8 @@ public class PulsarProducerAdvice implements MethodInterceptor<Object, Object>,
             String producerId = producer.getProducerName();
             LOG.error("Failed to produce message on producer {}", producerId, e);
             throw new RuntimeException("Failed to produce a message on " + producerId, e);
+        } finally {
+            release.run();
         }
     }
 
@@ -157,8 +167,10 @@ public class PulsarProducerAdvice implements MethodInterceptor<Object, Object>,
                                            final Producer<T> producer,
                                            final ReturnType<?> returnType,
                                            final @Nullable Object key,
-                                           final Map<String, String> headers) {
-        final CompletableFuture<?> future = buildMessage(producer, value, key, headers).sendAsync();
+                                           final Map<String, String> headers,
+                                           final Runnable release) {
+        final CompletableFuture<?> future = buildMessage(producer, value, key, headers).sendAsync()
+            .whenComplete((x, ex) -> release.run());
         if (CompletableFuture.class == returnType.getType()) {
             return future;
         }
@@ -254,6 +266,19 @@ public class PulsarProducerAdvice implements MethodInterceptor<Object, Object>,
         return producer;
     }
 
+    /**
+     * Producers which might be closed concurrently, like ones evicted from a cache, are kept open until the message
+     * is sent by running returned action once sending completes or fails.
+     *
+     * @param method   method annotated with {@link PulsarProducer}
+     * @param producer producer returned by {@link #getOrCreateProducer(ExecutableMethod, AnnotationValue)}
+     * @return action run once the message is sent; does nothing by default
+     * @since 1.3.0
+     */
+    protected Runnable releaseAction(final ExecutableMethod<?, ?> method, @Nullable final Producer<?> producer) {
+        return NO_RELEASE;
+    }
+
     @Override
     @PreDestroy
     public void close() {
@@ -283,4 +308,20 @@ public class PulsarProducerAdvice implements MethodInterceptor<Object, Object>,
     public Set<String> getProducerIds() {
         return producers.keySet();
     }
+
+    @Override
+    public CompletableFuture<Void> removeProducer(@NonNull String id) {
+        return flushAndClose(producers.remove(id));
+    }
+
+    /**
+     * @param producer producer to close; may be null
+     * @return future completed once pending messages are flushed and producer is closed
+     */
+    protected CompletableFuture<Void> flushAndClose(@Nullable final Producer<?> producer) {
+        if (null == producer) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return producer.flushAsync().thenCompose(x -> producer.closeAsync());
+    }
 }
@@ -20,19 +20,40 @@ import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.BeanContext;
 import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.ReturnType;
+import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.messaging.exceptions.MessageListenerException;
+import io.micronaut.pulsar.LeasedReader;
+import io.micronaut.pulsar.PulsarReaderRegistry;
 import io.micronaut.pulsar.annotation.PulsarReader;
 import io.micronaut.pulsar.annotation.PulsarReaderClient;
+import io.micronaut.pulsar.annotation.ReaderSeek;
+import io.micronaut.pulsar.processor.TopicResolver;
 import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageId;
 import org.apache.pulsar.client.api.PulsarClientException;
 import org.apache.pulsar.client.api.Reader;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Interceptor for abstract methods annotated with the {@link PulsarReader}.
@@ -44,6 +65,8 @@ import java.util.concurrent.TimeUnit;
 public class PulsarReaderAdvice implements MethodInterceptor<Object, Object> {
 
     protected final BeanContext beanContext;
+    private final Map<ExecutableMethod<?, ?>, ReaderMethod> readerMethods = new ConcurrentHashMap<>();
+    private volatile PulsarReaderRegistry readerRegistry;
 
     public PulsarReaderAdvice(final BeanContext beanContext) {
         this.beanContext = beanContext;
@@ -54,71 +77,260 @@ public class PulsarReaderAdvice implements MethodInterceptor<Object, Object> {
         if (!context.hasAnnotation(PulsarReader.class)) {
             return context.proceed();
         }
+        ReaderMethod readerMethod = readerMethods.get(context.getExecutableMethod());
+        if (null == readerMethod) {
+            readerMethod = createReaderMethod(context);
+            // reader factory keeps readers by id so racing calls end up with the same reader
+            readerMethods.putIfAbsent(context.getExecutableMethod(), readerMethod);
+        }
+        final Reader<?> reader = null == readerMethod.readerId
+            ? createReader(readerMethod, context)
+            : staticReader(readerMethod, context);
+        // tenant readers are leased from the cache until reading ends so they aren't evicted while still in use
+        final Runnable release = reader instanceof LeasedReader ? ((LeasedReader<?>) reader)::release : () -> { };
+        try {
+            return readerMethod.read(reader, context.getParameterValues(), release);
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        } catch (PulsarClientException e) {
+            release.run();
+            throw new MessageListenerException(
+                String.format("Failed to read message on topic %s", reader.getTopic()),
+                e);
+        }
+    }
+
+    /**
+     * Resolve everything that doesn't change between calls of a reader method. Reader itself is kept as well unless
+     * its topic depends on the tenant of the current call.
+     */
+    private ReaderMethod createReaderMethod(final MethodInvocationContext<Object, Object> context) {
         if (!context.getExecutableMethod().isAbstract()) {
             throw new IllegalArgumentException(String.format("Non abstract method cannot be annotated as Readers: %s",
                 context.getExecutableMethod().getDescription(false)
             ));
         }
         final ReturnType<?> returnType = context.getExecutableMethod().getReturnType();
+        final ReadMode mode = ReadMode.of(returnType);
         final Argument<?> argumentReturnType;
-        if (returnType.isAsyncOrReactive()) {
-            argumentReturnType = returnType.getFirstTypeVariable()
-                .orElseThrow(() -> new IllegalArgumentException(
-                    "Could not extract return type for %s. Async / reactive "));
-        } else {
+        if (ReadMode.SINGLE == mode) {
             argumentReturnType = returnType.asArgument();
+        } else {
+            argumentReturnType = returnType.getFirstTypeVariable()
+                .orElseThrow(() -> new IllegalArgumentException(String.format(
+                    "Could not extract return type for %s. Async, reactive or collection types must declare element type",
+                    context.getExecutableMethod().getDescription(false))));
         }
-        final AnnotationValue<PulsarReader> annotationValue = context.getAnnotation(PulsarReader.class);
-        final Reader<?> reader = beanContext.createBean(Reader.class,
-            annotationValue,
-            argumentReturnType,
-            context);
-        try {
-            return read(reader, returnType, annotationValue);
-        } catch (PulsarClientException e) {
-            throw new MessageListenerException(
-                String.format("Failed to read message on topic %s", reader.getTopic()),
-                e);
+        final AnnotationValue<PulsarReader> annotationValue = Objects.requireNonNull(
+            context.getAnnotation(PulsarReader.class));
+        // readers of static topics are registered by their name
+        final String readerId = TopicResolver.extractTopic(annotationValue).isDynamicTenant() ? null
+            : annotationValue.stringValue("readerName").orElse(context.getExecutableMethod().getName());
+        final ReaderMethod readerMethod = new ReaderMethod(annotationValue, returnType, mode, argumentReturnType,
+            seekIndex(context.getExecutableMethod()), readerId);
+        if (null != readerId) {
+            readerMethod.reader = createReader(readerMethod, context);
+        }
+        return readerMethod;
+    }
+
+    /**
+     * Reader kept for the method is used as long as it is still registered; once removed from the registry, and thus
+     * closed, reader factory is asked for a new one.
+     */
+    private Reader<?> staticReader(final ReaderMethod readerMethod,
+                                   final MethodInvocationContext<Object, Object> context) {
+        final Reader<?> cached = readerMethod.reader;
+        if (null != cached && cached == readerRegistry().getReader(readerMethod.readerId)) {
+            return cached;
+        }
+        final Reader<?> reader = createReader(readerMethod, context);
+        readerMethod.reader = reader;
+        return reader;
+    }
+
+    private PulsarReaderRegistry readerRegistry() {
+        PulsarReaderRegistry registry = readerRegistry;
+        if (null == registry) {
+            registry = beanContext.getBean(PulsarReaderRegistry.class);
+            readerRegistry = registry;
         }
+        return registry;
     }
 
-    private Object read(final Reader<?> reader,
-                        final ReturnType<?> returnType,
-                        final AnnotationValue<PulsarReader> annotationValue) throws PulsarClientException {
-        if (returnType.isAsyncOrReactive()) {
-            final Argument<?> wrapped = returnType.getFirstTypeVariable()
-                .orElseThrow(() -> new IllegalStateException("Missing inner type for async reader."));
-            if (Message.class.isAssignableFrom(wrapped.getType())) {
-                return readAsync(returnType, reader.readNextAsync());
+    private static int seekIndex(final ExecutableMethod<?, ?> method) {
+        final Argument<?>[] arguments = method.getArguments();
+        int index = -1;
+        for (int i = 0; i < arguments.length; i++) {
+            final Argument<?> argument = arguments[i];
+            if (!argument.isAnnotationPresent(ReaderSeek.class)) {
+                continue;
             }
-            return readAsync(returnType, reader.readNextAsync().thenApply(Message::getValue));
+            if (-1 != index) {
+                throw new IllegalArgumentException(String.format(
+                    "Only 1 parameter can be annotated with ReaderSeek: %s", method.getDescription(false)));
+            }
+            final Class<?> type = argument.getType();
+            if (!MessageId.class.isAssignableFrom(type) && Instant.class != type
+                && Long.class != type && long.class != type) {
+                throw new IllegalArgumentException(String.format(
+                    "ReaderSeek parameter must be MessageId, Instant or long publish time: %s",
+                    method.getDescription(false)));
+            }
+            index = i;
         }
-        if (Message.class.isAssignableFrom(returnType.getType())) {
-            return readBlocking(reader, annotationValue);
+        return index;
+    }
+
+    private static CompletableFuture<Void> seekAsync(final Reader<?> reader, final Object position) {
+        if (position instanceof MessageId) {
+            return reader.seekAsync((MessageId) position);
+        }
+        if (position instanceof Instant) {
+            return reader.seekAsync(((Instant) position).toEpochMilli());
         }
-        final Message<?> msg = readBlocking(reader, annotationValue);
-        return msg.getValue();
+        return reader.seekAsync((Long) position);
     }
 
-    private static Message<?> readBlocking(final Reader<?> reader,
-                                           final AnnotationValue<PulsarReader> annotationValue)
-        throws PulsarClientException {
-        final int timeout = Objects.requireNonNull(annotationValue)
-            .intValue("readTimeout")
-            .orElse(0);
-        final TimeUnit timeUnit = annotationValue.get("timeoutUnit", TimeUnit.class)
-            .orElse(TimeUnit.SECONDS);
-        if (timeout > 0) {
-            return reader.readNext(timeout, timeUnit);
-        }
-        return reader.readNext();
+    private static void seek(final Reader<?> reader, final Object position) throws PulsarClientException {
+        if (position instanceof MessageId) {
+            reader.seek((MessageId) position);
+        } else if (position instanceof Instant) {
+            reader.seek(((Instant) position).toEpochMilli());
+        } else {
+            reader.seek((Long) position);
+        }
+    }
+
+    private Reader<?> createReader(final ReaderMethod readerMethod,
+                                   final MethodInvocationContext<Object, Object> context) {
+        return beanContext.createBean(Reader.class,
+            readerMethod.annotationValue,
+            readerMethod.argumentReturnType,
+            context);
     }
 
-    private static Object readAsync(final ReturnType<?> returnType,
-                                    final CompletableFuture<?> reading) {
-        if (CompletableFuture.class == returnType.getType()) {
-            return reading;
+    /**
+     * How reader method returns messages.
+     */
+    private enum ReadMode {
+        SINGLE, ASYNC, PUBLISHER, LIST, STREAM, ITERATOR;
+
+        private static ReadMode of(final ReturnType<?> returnType) {
+            final Class<?> type = returnType.getType();
+            if (returnType.isAsyncOrReactive()) {
+                if (CompletionStage.class.isAssignableFrom(type) || Publishers.isSingle(type)) {
+                    return ASYNC;
+                }
+                return PUBLISHER;
+            }
+            if (List.class == type || Collection.class == type || Iterable.class == type) {
+                return LIST;
+            }
+            if (Stream.class == type) {
+                return STREAM;
+            }
+            if (Iterator.class == type) {
+                return ITERATOR;
+            }
+            return SINGLE;
+        }
+    }
+
+    /**
+     * Precomputed read settings of a single reader method.
+     */
+    private static final class ReaderMethod {
+        private final AnnotationValue<PulsarReader> annotationValue;
+        private final Argument<?> argumentReturnType;
+        private final Class<?> returnType;
+        private final ReadMode mode;
+        private final Function<Message<?>, Object> mapper;
+        private final int timeout;
+        private final TimeUnit timeUnit;
+        private final int maxMessages;
+        private final int seekIndex;
+        @Nullable
+        private final String readerId;
+        private volatile Reader<?> reader;
+
+        private ReaderMethod(final AnnotationValue<PulsarReader> annotationValue,
+                             final ReturnType<?> returnType,
+                             final ReadMode mode,
+                             final Argument<?> argumentReturnType,
+                             final int seekIndex,
+                             @Nullable final String readerId) {
+            this.annotationValue = annotationValue;
+            this.argumentReturnType = argumentReturnType;
+            this.returnType = returnType.getType();
+            this.mode = mode;
+            this.mapper = Message.class.isAssignableFrom(argumentReturnType.getType()) ? x -> x : Message::getValue;
+            this.timeout = annotationValue.intValue("readTimeout").orElse(0);
+            this.timeUnit = annotationValue.get("timeoutUnit", TimeUnit.class).orElse(TimeUnit.SECONDS);
+            this.maxMessages = annotationValue.intValue("maxMessages").orElse(0);
+            this.seekIndex = seekIndex;
+            this.readerId = readerId;
+        }
+
+        /**
+         * @param release called once reader is no longer used by this call; synchronously for blocking reads,
+         *                otherwise once the returned future, publisher, stream or iterator is done
+         */
+        @SuppressWarnings("unchecked")
+        private Object read(final Reader<?> reader,
+                            final Object[] parameters,
+                            final Runnable release) throws PulsarClientException {
+            final Object position = -1 == seekIndex ? null : parameters[seekIndex];
+            if (ReadMode.ASYNC == mode) {
+                if (null == position) {
+                    return readAsync(reader.readNextAsync().thenApply(mapper), release);
+                }
+                final Reader<Object> source = (Reader<Object>) reader;
+                return readAsync(seekAsync(reader, position)
+                    .thenCompose(x -> source.readNextAsync())
+                    .thenApply(mapper), release);
+            }
+            if (ReadMode.PUBLISHER == mode) {
+                final Supplier<CompletableFuture<Void>> seek = null == position ? null : () -> seekAsync(reader, position);
+                return Publishers.convertPublisher(
+                    new ReaderPublisher<>(reader, mapper, maxMessages, timeUnit.toNanos(timeout), seek, release),
+                    returnType);
+            }
+            if (null != position) {
+                seek(reader, position);
+            }
+            switch (mode) {
+                case LIST:
+                    final List<Object> messages = new ArrayList<>();
+                    iterator(reader, release).forEachRemaining(messages::add);
+                    return messages;
+                case STREAM:
+                    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(reader, release),
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                        .onClose(release);
+                case ITERATOR:
+                    return iterator(reader, release);
+                default:
+                    try {
+                        final Message<?> msg = timeout > 0 ? reader.readNext(timeout, timeUnit) : reader.readNext();
+                        return null == msg ? null : mapper.apply(msg);
+                    } finally {
+                        release.run();
+                    }
+            }
+        }
+
+        private Iterator<Object> iterator(final Reader<?> reader, final Runnable release) {
+            return new ReaderIterator<>(reader, mapper, maxMessages, timeUnit.toNanos(timeout), release);
+        }
+
+        private Object readAsync(final CompletableFuture<?> reading, final Runnable release) {
+            final CompletableFuture<?> released = reading.whenComplete((x, ex) -> release.run());
+            if (CompletableFuture.class == returnType) {
+                return released;
+            }
+            return Publishers.convertPublisher(released, returnType);
         }
-        return Publishers.convertPublisher(reading, returnType.getType());
     }
 }
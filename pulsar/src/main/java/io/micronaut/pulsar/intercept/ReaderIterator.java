@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.intercept;
+
+import io.micronaut.messaging.exceptions.MessageListenerException;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.Reader;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Blocking iterator over messages currently available to a reader. Stops once reader has no more messages available,
+ * maximum number of messages is read, or deadline passes.
+ *
+ * @param <T> type of elements; either message or message value
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+final class ReaderIterator<T> implements Iterator<T> {
+
+    private final Reader<?> reader;
+    private final Function<Message<?>, T> mapper;
+    private final long maxMessages;
+    private final long deadline;
+    private final boolean hasDeadline;
+    private final Runnable onEnd;
+    private long read;
+    private Message<?> next;
+    private boolean done;
+
+    /**
+     * @param reader       reader to read from
+     * @param mapper       converts message into element
+     * @param maxMessages  maximum number of messages to read; 0 or less for no limit
+     * @param timeoutNanos time limit for reading all messages; 0 or less for no limit
+     * @param onEnd        called once iteration ends either by reading all messages or by failing
+     */
+    ReaderIterator(final Reader<?> reader,
+                   final Function<Message<?>, T> mapper,
+                   final long maxMessages,
+                   final long timeoutNanos,
+                   final Runnable onEnd) {
+        this.reader = reader;
+        this.onEnd = onEnd;
+        this.mapper = mapper;
+        this.maxMessages = maxMessages > 0 ? maxMessages : Long.MAX_VALUE;
+        this.hasDeadline = timeoutNanos > 0;
+        this.deadline = System.nanoTime() + timeoutNanos;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (null != next) {
+            return true;
+        }
+        if (done) {
+            return false;
+        }
+        try {
+            next = fetch();
+        } catch (PulsarClientException | RuntimeException e) {
+            done = true;
+            onEnd.run();
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new MessageListenerException(
+                String.format("Failed to read message on topic %s", reader.getTopic()),
+                e);
+        }
+        done = null == next;
+        if (done) {
+            onEnd.run();
+        }
+        return !done;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final Message<?> message = next;
+        next = null;
+        read++;
+        return mapper.apply(message);
+    }
+
+    private Message<?> fetch() throws PulsarClientException {
+        if (read >= maxMessages || !reader.hasMessageAvailable()) {
+            return null;
+        }
+        if (!hasDeadline) {
+            return reader.readNext();
+        }
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return null;
+        }
+        final long millis = Math.max(1, MILLISECONDS.convert(remaining, NANOSECONDS));
+        return reader.readNext((int) Math.min(Integer.MAX_VALUE, millis), MILLISECONDS);
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.intercept;
+
+import io.micronaut.core.annotation.Nullable;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.Reader;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Demand driven publisher of messages currently available to a reader. A single {@link Reader#readNextAsync()} is
+ * in flight at a time and only while subscriber has outstanding demand; Pulsar client prefetches messages into reader
+ * receiver queue so already received messages are emitted without a round trip to the broker. Completes once reader
+ * has no more messages available, maximum number of messages is emitted, or deadline passes.
+ * <p>
+ * Publisher can be subscribed only once since reader is released once the first subscription terminates; further
+ * subscribers fail with {@link IllegalStateException}.
+ *
+ * @param <T> type of elements; either message or message value
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+final class ReaderPublisher<T> implements Publisher<T> {
+
+    private final Reader<Object> reader;
+    private final Function<Message<?>, T> mapper;
+    private final long maxMessages;
+    private final long timeoutNanos;
+    @Nullable
+    private final Supplier<CompletableFuture<Void>> seek;
+    private final Runnable onTerminate;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * @param reader       reader to read from
+     * @param mapper       converts message into element
+     * @param maxMessages  maximum number of messages to emit; 0 or less for no limit
+     * @param timeoutNanos time limit counted from subscription; 0 or less for no limit
+     * @param seek         positions reader on subscription before reading; null to read from current position
+     * @param onTerminate  called once subscription completes, fails or is cancelled
+     */
+    @SuppressWarnings("unchecked")
+    ReaderPublisher(final Reader<?> reader,
+                    final Function<Message<?>, T> mapper,
+                    final long maxMessages,
+                    final long timeoutNanos,
+                    @Nullable final Supplier<CompletableFuture<Void>> seek,
+                    final Runnable onTerminate) {
+        this.reader = (Reader<Object>) reader;
+        this.mapper = mapper;
+        this.maxMessages = maxMessages > 0 ? maxMessages : Long.MAX_VALUE;
+        this.timeoutNanos = timeoutNanos;
+        this.seek = seek;
+        this.onTerminate = onTerminate;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(EmptySubscription.INSTANCE);
+            subscriber.onError(new IllegalStateException(
+                "Reader method publisher allows only one subscriber; call the method again to read again"));
+            return;
+        }
+        subscriber.onSubscribe(new ReaderSubscription(subscriber));
+    }
+
+    private enum EmptySubscription implements Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(final long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    private final class ReaderSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicBoolean reading = new AtomicBoolean();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final long deadline;
+        private volatile boolean cancelled;
+        private boolean positioned;
+        private long emitted;
+
+        private ReaderSubscription(final Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.deadline = System.nanoTime() + timeoutNanos;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                cancelled = true;
+                fail(new IllegalArgumentException("Requested number of messages must be positive"));
+                return;
+            }
+            requested.accumulateAndGet(n, (current, add) -> {
+                final long sum = current + add;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            if (reading.compareAndSet(false, true)) {
+                readNext();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            if (done.compareAndSet(false, true)) {
+                onTerminate.run();
+            }
+        }
+
+        /**
+         * Loops while messages are already received by the client to avoid growing the stack on synchronously
+         * completed futures; otherwise continues from the completion callback. Only the thread owning
+         * {@code reading} flag may run this method.
+         */
+        private void readNext() {
+            while (true) {
+                if (cancelled || done.get()) {
+                    return;
+                }
+                if (0 == requested.get()) {
+                    reading.set(false);
+                    // demand might have arrived between the check and releasing the flag
+                    if (0 == requested.get() || !reading.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                if (!positioned) {
+                    positioned = true;
+                    if (null != seek) {
+                        seek.get().whenComplete((x, ex) -> {
+                            if (null != ex) {
+                                fail(ex);
+                            } else {
+                                readNext();
+                            }
+                        });
+                        return;
+                    }
+                }
+                if (emitted >= maxMessages || (timeoutNanos > 0 && System.nanoTime() - deadline >= 0)) {
+                    complete();
+                    return;
+                }
+                final CompletableFuture<Message<Object>> next = reader.hasMessageAvailableAsync()
+                    .thenCompose(available -> available
+                        ? reader.readNextAsync()
+                        : CompletableFuture.<Message<Object>>completedFuture(null));
+                if (next.isDone() && !next.isCompletedExceptionally()) {
+                    if (!emit(next.join())) {
+                        return;
+                    }
+                    continue;
+                }
+                next.whenComplete((message, ex) -> {
+                    if (null != ex) {
+                        fail(ex);
+                    } else if (emit(message)) {
+                        readNext();
+                    }
+                });
+                return;
+            }
+        }
+
+        private boolean emit(final Message<?> message) {
+            if (null == message) {
+                complete();
+                return false;
+            }
+            final T value;
+            try {
+                value = mapper.apply(message);
+            } catch (Exception ex) {
+                fail(ex);
+                return false;
+            }
+            emitted++;
+            if (Long.MAX_VALUE != requested.get()) {
+                requested.decrementAndGet();
+            }
+            if (!cancelled) {
+                subscriber.onNext(value);
+            }
+            return true;
+        }
+
+        private void complete() {
+            if (done.compareAndSet(false, true)) {
+                onTerminate.run();
+                if (!cancelled) {
+                    subscriber.onComplete();
+                }
+            }
+        }
+
+        private void fail(final Throwable ex) {
+            if (done.compareAndSet(false, true)) {
+                onTerminate.run();
+                subscriber.onError(ex);
+            }
+        }
+    }
+}
@@ -15,6 +15,8 @@
  */
 package io.micronaut.pulsar.processor;
 
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.SupplierUtil;
 import io.micronaut.inject.DelegatingExecutableMethod;
 import io.micronaut.inject.ExecutableMethod;
 import org.apache.pulsar.client.api.Consumer;
@@ -24,6 +26,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 /**
  * Default listener for incoming Pulsar messages.
@@ -38,12 +41,37 @@ public class DefaultListener implements MessageListenerResolver {
 
     private final ExecutableMethod<Object, ?> method;
     private final BiConsumer<Consumer<?>, Message<?>> receive;
+    @Nullable
+    private final ProcessedMessagesCache processedMessages;
+    @Nullable
+    private final Predicate<Message<?>> filter;
 
     public DefaultListener(final ExecutableMethod method,
                            final boolean useMessageWrapper,
                            final Object invoker,
                            final PulsarArgumentHandler argumentHandler) {
+        this(method, useMessageWrapper, invoker, argumentHandler, null, null);
+    }
+
+    /**
+     * @param method            method to invoke on message arrival
+     * @param useMessageWrapper whether method expects whole Pulsar message as body argument
+     * @param invoker           bean declaring the method
+     * @param argumentHandler   processed method arguments
+     * @param processedMessages cache used to skip redeliveries of already processed messages; null to disable
+     * @param filter            predicate over message key and properties; messages not matching are acknowledged and
+     *                          skipped. Null to accept all messages
+     * @since 1.3.0
+     */
+    public DefaultListener(final ExecutableMethod method,
+                           final boolean useMessageWrapper,
+                           final Object invoker,
+                           final PulsarArgumentHandler argumentHandler,
+                           @Nullable final ProcessedMessagesCache processedMessages,
+                           @Nullable final Predicate<Message<?>> filter) {
         this.method = method;
+        this.processedMessages = processedMessages;
+        this.filter = filter;
         final boolean isSuspend;
         if (method instanceof DelegatingExecutableMethod) {
             isSuspend = ((DelegatingExecutableMethod) method).getTarget().isSuspend();
@@ -54,9 +82,17 @@ public class DefaultListener implements MessageListenerResolver {
         final Map<String, Integer> argsOrder = argumentHandler.argumentOrder();
         final int totalArgs = argumentHandler.size();
         final boolean hasHeadersAsMap = argumentHandler.hasHeadersMap();
+        final boolean lazyBody = argumentHandler.isLazyBody();
         receive = (c, v) -> {
             final Object[] params = new Object[totalArgs];
-            params[argsOrder.get("body")] = useMessageWrapper ? v : v.getValue();
+            if (useMessageWrapper) {
+                params[argsOrder.get("body")] = v;
+            } else if (lazyBody) {
+                // Pulsar decodes value on each getValue call so memoize it for repeated access
+                params[argsOrder.get("body")] = SupplierUtil.memoized(v::getValue);
+            } else {
+                params[argsOrder.get("body")] = v.getValue();
+            }
             if (argsOrder.containsKey("consumer")) {
                 params[argsOrder.get("consumer")] = c;
             }
@@ -81,9 +117,20 @@ public class DefaultListener implements MessageListenerResolver {
 
     @Override
     public void received(final Consumer consumer, final Message msg) {
+        if (null != processedMessages && processedMessages.isDuplicate(msg)) {
+            consumer.acknowledgeAsync(msg);
+            return;
+        }
+        if (null != filter && !filter.test(msg)) {
+            consumer.acknowledgeAsync(msg);
+            return;
+        }
         try {
             receive.accept(consumer, msg);
             consumer.acknowledgeAsync(msg);
+            if (null != processedMessages) {
+                processedMessages.markProcessed(msg);
+            }
         } catch (Exception ex) {
             consumer.negativeAcknowledge(msg.getMessageId());
             LOGGER.error("Could not parse message [{}] for [{}] on method [{}]", msg.getMessageId(), consumer.getConsumerName(), method.getName(), ex);
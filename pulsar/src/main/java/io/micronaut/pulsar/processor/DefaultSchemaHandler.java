@@ -19,19 +19,38 @@ import io.micronaut.context.BeanContext;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.messaging.exceptions.MessageListenerException;
 import io.micronaut.pulsar.MessageSchema;
+import io.micronaut.pulsar.schemas.LazyAutoConsumeSchema;
 import io.micronaut.pulsar.schemas.SchemaResolver;
+import io.micronaut.pulsar.schemas.zstd.ZstdDictionaryRegistry;
 import jakarta.inject.Singleton;
 import org.apache.pulsar.client.api.Message;
 import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.api.schema.GenericRecord;
 import org.apache.pulsar.client.impl.schema.*;
 import org.apache.pulsar.common.schema.KeyValueEncodingType;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 /**
  * Message type resolver for Pulsar schema. Simplifies resolving Java types to Pulsar schemas by using requested
  * transmission type via annotations and injecting proper resolvers in place.
+ * <p>
+ * Resolved schemas, including key-value ones, are cached by schema type, message class, key class, and encoding so
+ * consumers, producers, and readers created for the same types reuse parsed schema info. Pulsar clones schemas which
+ * support versioning before attaching topic specific schema info thus sharing instances is safe.
+ * <p>
+ * If annotation names a {@code compressionDictionary} message payloads, but not separately encoded keys, are
+ * compressed with it.
+ * <p>
+ * Messages of {@link GenericRecord} type are consumed with {@link Schema#AUTO_CONSUME()} regardless of the requested
+ * schema, thus a single consumer can process topics of different schemas.
  *
  * @author Haris Secic
  * @since 1.1.0
@@ -40,6 +59,7 @@ import org.apache.pulsar.common.schema.KeyValueEncodingType;
 public class DefaultSchemaHandler {
 
     private final BeanContext context;
+    private final Map<SchemaKey, Schema<?>> schemas = new ConcurrentHashMap<>();
 
     /**
      * @param context BeanContext for fetching extra resolvers
@@ -64,23 +84,57 @@ public class DefaultSchemaHandler {
                                   final String target) {
         final boolean isKeyValue = key != null;
         final MessageSchema schema = topicAnnotation.getRequiredValue("schema", MessageSchema.class);
+        final String dictionary = topicAnnotation.stringValue("compressionDictionary")
+            .filter(StringUtils::isNotEmpty)
+            .orElse(null);
         if (!isKeyValue) {
-            return resolve(schema, body, target);
+            return valueSchema(schema, body, dictionary, target);
         }
         final KeyValueEncodingType type = topicAnnotation.getRequiredValue(KeyValueEncodingType.class);
-        final Schema<?> bodyType = resolve(schema, body, target);
-        final Schema<?> keyType;
-        if (type == KeyValueEncodingType.INLINE) {
-            keyType = resolve(schema, key, target);
-        } else {
-            keyType = resolve(topicAnnotation.getRequiredValue("keySchema", MessageSchema.class), key, target);
+        final MessageSchema keySchema = type == KeyValueEncodingType.INLINE
+            ? schema
+            : topicAnnotation.getRequiredValue("keySchema", MessageSchema.class);
+        return cached(new SchemaKey(schema, bodyType(body), keySchema, bodyType(key), type, dictionary), () -> {
+            final Schema<?> bodyType = valueSchema(schema, body, dictionary, target);
+            final Schema<?> keyType = cached(new SchemaKey(keySchema, bodyType(key), null, null, null, null),
+                () -> resolve(keySchema, key, target));
+            return KeyValueSchemaImpl.of(bodyType, keyType, type);
+        });
+    }
+
+    private Schema<?> valueSchema(final MessageSchema schema,
+                                  final Argument<?> body,
+                                  @Nullable final String dictionary,
+                                  final String target) {
+        final Schema<?> plain = cached(new SchemaKey(schema, bodyType(body), null, null, null, null),
+            () -> resolve(schema, body, target));
+        if (null == dictionary) {
+            return plain;
+        }
+        return cached(new SchemaKey(schema, bodyType(body), null, null, null, dictionary), () ->
+            context.findBean(ZstdDictionaryRegistry.class)
+                .orElseThrow(() -> new MessageListenerException("Compression dictionary requires zstd-jni library"
+                    + " (parameter: " + target + ")"))
+                .compressed(plain, dictionary));
+    }
+
+    private Schema<?> cached(final SchemaKey key, final Supplier<Schema<?>> resolver) {
+        // resolving outside of computeIfAbsent as key-value schemas resolve their parts through the same map
+        final Schema<?> existing = schemas.get(key);
+        if (null != existing) {
+            return existing;
         }
-        return KeyValueSchemaImpl.of(bodyType, keyType, type);
+        final Schema<?> resolved = resolver.get();
+        final Schema<?> previous = schemas.putIfAbsent(key, resolved);
+        return null == previous ? resolved : previous;
     }
 
     private Schema<?> resolve(final MessageSchema schema, final Argument<?> argument, final String target) {
         final Class<?> type = bodyType(argument);
 
+        if (GenericRecord.class == type) {
+            return new LazyAutoConsumeSchema();
+        }
         if (MessageSchema.BYTES == schema && byte[].class != type) {
             if (String.class == type) {
                 return StringSchema.utf8();
@@ -128,9 +182,61 @@ public class DefaultSchemaHandler {
     }
 
     public static Class<?> bodyType(final Argument<?> body) {
-        if (Message.class.isAssignableFrom(body.getType())) {
-            return body.getTypeParameters()[0].getType();
+        if (Message.class.isAssignableFrom(body.getType()) || Supplier.class == body.getType()) {
+            final Argument<?>[] typeParameters = body.getTypeParameters();
+            if (0 == typeParameters.length) {
+                throw new MessageListenerException(String.format("Missing type argument of %s on parameter %s",
+                    body.getType().getSimpleName(),
+                    body.getName()));
+            }
+            return typeParameters[0].getType();
         }
         return body.getType();
     }
+
+    private static final class SchemaKey {
+        private final MessageSchema schema;
+        private final Class<?> type;
+        @Nullable
+        private final MessageSchema keySchema;
+        @Nullable
+        private final Class<?> keyType;
+        @Nullable
+        private final KeyValueEncodingType encoding;
+        @Nullable
+        private final String dictionary;
+
+        private SchemaKey(final MessageSchema schema,
+                          final Class<?> type,
+                          @Nullable final MessageSchema keySchema,
+                          @Nullable final Class<?> keyType,
+                          @Nullable final KeyValueEncodingType encoding,
+                          @Nullable final String dictionary) {
+            this.schema = schema;
+            this.type = type;
+            this.keySchema = keySchema;
+            this.keyType = keyType;
+            this.encoding = encoding;
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SchemaKey)) {
+                return false;
+            }
+            final SchemaKey that = (SchemaKey) o;
+            // classes are compared by identity thus same named classes from different class loaders differ
+            return schema == that.schema && type == that.type && keySchema == that.keySchema
+                && keyType == that.keyType && encoding == that.encoding && Objects.equals(dictionary, that.dictionary);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(schema, type, keySchema, keyType, encoding, dictionary);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.processor;
+
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.messaging.exceptions.MessageListenerException;
+import io.micronaut.pulsar.annotation.PulsarFilter;
+import org.apache.pulsar.client.api.Message;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles {@link PulsarFilter} annotations into a single predicate over message key and properties. Patterns are
+ * compiled once per consumer so evaluation per message doesn't allocate or touch the payload.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Internal
+public final class MessageFilters {
+
+    private MessageFilters() {
+    }
+
+    /**
+     * @param filters filter annotations declared on consumer method
+     * @param target  method description used for error reporting
+     * @return predicate accepting messages that match all filters; null if there are no filters
+     */
+    @Nullable
+    public static Predicate<Message<?>> compile(final List<AnnotationValue<PulsarFilter>> filters, final String target) {
+        Predicate<Message<?>> result = null;
+        for (AnnotationValue<PulsarFilter> filter : filters) {
+            final Predicate<Message<?>> predicate = compile(filter, target);
+            result = null == result ? predicate : result.and(predicate);
+        }
+        return result;
+    }
+
+    private static Predicate<Message<?>> compile(final AnnotationValue<PulsarFilter> filter, final String target) {
+        final String property = filter.stringValue("property").filter(StringUtils::isNotEmpty).orElse(null);
+        final String value = filter.stringValue().filter(StringUtils::isNotEmpty).orElse(null);
+        final String keyPrefix = filter.stringValue("keyPrefix").filter(StringUtils::isNotEmpty).orElse(null);
+        final Pattern pattern;
+        try {
+            pattern = filter.stringValue("pattern").filter(StringUtils::isNotEmpty).map(Pattern::compile).orElse(null);
+        } catch (PatternSyntaxException ex) {
+            throw new MessageListenerException("Invalid filter pattern on " + target, ex);
+        }
+        if (null == property && (null != value || (null == keyPrefix && null == pattern))) {
+            throw new MessageListenerException("Filter on " + target
+                + " must define property, pattern or keyPrefix; value requires property");
+        }
+        if (null != value && null != pattern) {
+            throw new MessageListenerException("Filter on " + target + " must define either value or pattern, not both");
+        }
+
+        Predicate<Message<?>> predicate = null;
+        if (null != property) {
+            if (null != value) {
+                predicate = x -> value.equals(x.getProperty(property));
+            } else if (null != pattern) {
+                predicate = x -> {
+                    final String actual = x.getProperty(property);
+                    return null != actual && pattern.matcher(actual).matches();
+                };
+            } else {
+                predicate = x -> x.hasProperty(property);
+            }
+        }
+        if (null == property && null != pattern) {
+            predicate = x -> x.hasKey() && pattern.matcher(x.getKey()).matches();
+        }
+        if (null != keyPrefix) {
+            final Predicate<Message<?>> prefix = x -> x.hasKey() && x.getKey().startsWith(keyPrefix);
+            predicate = null == predicate ? prefix : predicate.and(prefix);
+        }
+        return predicate;
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.processor;
+
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.messaging.exceptions.MessageListenerException;
+import io.micronaut.pulsar.annotation.PulsarIdempotent;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.impl.BatchMessageIdImpl;
+import org.apache.pulsar.client.impl.MessageIdImpl;
+import org.apache.pulsar.client.impl.TopicMessageIdImpl;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of recently processed messages used by {@link DefaultListener} to skip redeliveries.
+ * <p>
+ * Messages are reduced to 64-bit fingerprints of their ID (or business key) so no message, ID, or string instances
+ * are retained. Fingerprints live in a primitive ring buffer, which keeps insertion order for size and time based
+ * eviction, and an open addressing hash table for lookups. Access is synchronized as listener threads of a single
+ * consumer rarely contend.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Internal
+public final class ProcessedMessagesCache {
+
+    private static final long EMPTY = 0L;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    @Nullable
+    private final String keyProperty;
+    private final long expireAfterNanos;
+    private final int capacity;
+    private final long[] ringKeys;
+    private final long[] ringTimes;
+    private final long[] table;
+    private final int mask;
+    private int head;
+    private int size;
+
+    /**
+     * @param keyProperty      message property holding business key; null to use message IDs
+     * @param capacity         maximum number of fingerprints to hold
+     * @param expireAfterNanos time after which fingerprint is forgotten
+     */
+    public ProcessedMessagesCache(@Nullable final String keyProperty, final int capacity, final long expireAfterNanos) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Processed messages cache size must be greater than 0");
+        }
+        this.keyProperty = keyProperty;
+        this.capacity = capacity;
+        this.expireAfterNanos = expireAfterNanos;
+        this.ringKeys = new long[capacity];
+        this.ringTimes = new long[capacity];
+        final int tableSize = Integer.highestOneBit(Math.max(2, capacity - 1) << 1) << 1;
+        this.table = new long[tableSize];
+        this.mask = tableSize - 1;
+    }
+
+    /**
+     * Create new cache from {@link PulsarIdempotent} annotation.
+     *
+     * @param annotation idempotent consumer annotation
+     * @param target     method description used for error reporting
+     * @return new cache for a single consumer
+     */
+    public static ProcessedMessagesCache of(final AnnotationValue<PulsarIdempotent> annotation, final String target) {
+        final String keyProperty = annotation.stringValue("keyProperty")
+            .filter(StringUtils::isNotEmpty)
+            .orElse(null);
+        final int maxSize = annotation.intValue("maxSize").orElse(10_000);
+        final Duration expireAfter;
+        try {
+            expireAfter = Duration.parse(annotation.stringValue("expireAfter").orElse("PT10M"));
+        } catch (Exception ex) {
+            throw new MessageListenerException("Invalid expireAfter value for idempotent consumer " + target, ex);
+        }
+        if (maxSize < 1 || expireAfter.isNegative() || expireAfter.isZero()) {
+            throw new MessageListenerException("Idempotent consumer " + target
+                + " requires positive maxSize and expireAfter values");
+        }
+        return new ProcessedMessagesCache(keyProperty, maxSize, expireAfter.toNanos());
+    }
+
+    /**
+     * @param message incoming message
+     * @return whether message was already processed successfully
+     */
+    public boolean isDuplicate(final Message<?> message) {
+        final long key = fingerprint(message);
+        synchronized (this) {
+            expire(System.nanoTime());
+            return indexOf(key) >= 0;
+        }
+    }
+
+    /**
+     * Remember message as processed. Should be called only after successful processing so failed messages can be
+     * redelivered.
+     *
+     * @param message processed message
+     */
+    public void markProcessed(final Message<?> message) {
+        final long key = fingerprint(message);
+        synchronized (this) {
+            final long now = System.nanoTime();
+            expire(now);
+            if (indexOf(key) >= 0) {
+                return;
+            }
+            if (size == capacity) {
+                removeOldest();
+            }
+            insert(key);
+            final int tail = (head + size) % capacity;
+            ringKeys[tail] = key;
+            ringTimes[tail] = now;
+            size++;
+        }
+    }
+
+    /**
+     * @return number of remembered messages
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private long fingerprint(final Message<?> message) {
+        if (null != keyProperty) {
+            final String value = message.getProperty(keyProperty);
+            if (null != value) {
+                return nonEmpty(fingerprint(value));
+            }
+        }
+        return nonEmpty(fingerprint(message.getMessageId()));
+    }
+
+    static long fingerprint(final MessageId messageId) {
+        MessageId id = messageId;
+        if (id instanceof TopicMessageIdImpl) {
+            id = ((TopicMessageIdImpl) id).getInnerMessageId();
+        }
+        if (id instanceof MessageIdImpl) {
+            final MessageIdImpl impl = (MessageIdImpl) id;
+            long hash = mix(impl.getLedgerId());
+            hash = mix(hash ^ impl.getEntryId());
+            hash = mix(hash ^ impl.getPartitionIndex());
+            if (id instanceof BatchMessageIdImpl) {
+                hash = mix(hash ^ ((BatchMessageIdImpl) id).getBatchIndex());
+            }
+            return hash;
+        }
+        long hash = FNV_OFFSET;
+        for (byte b : id.toByteArray()) {
+            hash = (hash ^ b) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    static long fingerprint(final String key) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long nonEmpty(final long key) {
+        return EMPTY == key ? 1L : key;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private int slot(final long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    private void expire(final long now) {
+        while (size > 0 && now - ringTimes[head] >= expireAfterNanos) {
+            removeOldest();
+        }
+    }
+
+    private void removeOldest() {
+        remove(ringKeys[head]);
+        head = (head + 1) % capacity;
+        size--;
+    }
+
+    private int indexOf(final long key) {
+        int i = slot(key);
+        while (true) {
+            final long current = table[i];
+            if (EMPTY == current) {
+                return -1;
+            }
+            if (key == current) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void insert(final long key) {
+        int i = slot(key);
+        while (EMPTY != table[i]) {
+            i = (i + 1) & mask;
+        }
+        table[i] = key;
+    }
+
+    // backward shift deletion keeps linear probing chains intact without tombstones
+    private void remove(final long key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return;
+        }
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            final long current = table[j];
+            if (EMPTY == current) {
+                break;
+            }
+            final int home = slot(current);
+            final boolean stays = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+            if (!stays) {
+                table[i] = current;
+                i = j;
+            }
+        }
+        table[i] = EMPTY;
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.pulsar.client.api.Consumer;
 import org.apache.pulsar.client.api.Message;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Helper processor class for arguments and headers on Pulsar consumers / processors.
@@ -125,6 +126,14 @@ public final class PulsarArgumentHandler {
         return Message.class.isAssignableFrom(methodArguments.get("body").getType());
     }
 
+    /**
+     * @return whether body argument is a {@link Supplier} which decodes message value on first access
+     * @since 1.3.0
+     */
+    public boolean isLazyBody() {
+        return Supplier.class == methodArguments.get("body").getType();
+    }
+
     @Nullable
     public Argument<?> getKeyArgument() {
         return methodArguments.get("key");
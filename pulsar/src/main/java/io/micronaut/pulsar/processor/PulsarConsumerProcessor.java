@@ -21,6 +21,7 @@ import io.micronaut.context.processor.ExecutableMethodProcessor;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.ArrayUtils;
@@ -30,10 +31,14 @@ import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.messaging.exceptions.MessageListenerException;
 import io.micronaut.pulsar.PulsarConsumerRegistry;
 import io.micronaut.pulsar.annotation.PulsarConsumer;
+import io.micronaut.pulsar.annotation.PulsarFilter;
+import io.micronaut.pulsar.annotation.PulsarIdempotent;
+import io.micronaut.pulsar.annotation.PulsarRoute;
 import io.micronaut.pulsar.annotation.PulsarSubscription;
 import io.micronaut.pulsar.config.DefaultPulsarClientConfiguration;
 import io.micronaut.pulsar.events.ConsumerSubscribedEvent;
 import io.micronaut.pulsar.events.ConsumerSubscriptionFailedEvent;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.apache.pulsar.client.api.*;
 import org.apache.pulsar.client.impl.ConsumerBuilderImpl;
@@ -44,8 +49,10 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import static java.util.concurrent.TimeUnit.*;
 
@@ -61,6 +68,12 @@ public class PulsarConsumerProcessor implements ExecutableMethodProcessor<Pulsar
     PulsarConsumerRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(PulsarConsumerProcessor.class);
+    private static final String[] ROUTE_CONSUMER_SETTINGS = {"schema", "keySchema", "keyEncoding",
+        "compressionDictionary", "subscription", "subscriptionType", "subscriptionTopicsMode",
+        "patternAutoDiscoveryPeriod", "subscribeAsync", "ackTimeout", "receiverQueueSize", "priorityLevel",
+        "deadLetterTopic", "maxRetriesBeforeDlq"};
+    private static final String[] ROUTE_SUBSCRIPTION_SETTINGS = {"subscriptionName", "subscriptionType",
+        "ackGroupTimeout"};
     protected final TopicResolver topicResolver;
 
     private final ApplicationEventPublisher<Object> applicationEventPublisher;
@@ -68,77 +81,244 @@ public class PulsarConsumerProcessor implements ExecutableMethodProcessor<Pulsar
     private final PulsarClient pulsarClient;
     private final DefaultSchemaHandler simpleSchemaResolver;
     private final DefaultPulsarClientConfiguration pulsarClientConfiguration;
+    private final PulsarInterceptorResolver interceptorResolver;
     private final Map<String, Consumer<?>> consumers = new ConcurrentHashMap<>();
     private final Map<String, Consumer<?>> paused = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> routedConsumers = new ConcurrentHashMap<>();
+    private final Set<String> subscribing = ConcurrentHashMap.newKeySet();
     private final AtomicInteger consumerCounter = new AtomicInteger(10);
 
+    /**
+     * @param applicationEventPublisher publisher of subscription events
+     * @param beanContext               bean context
+     * @param pulsarClient              main Pulsar client
+     * @param simpleSchemaResolver      schema resolver
+     * @param pulsarClientConfiguration Pulsar client configuration
+     * @param topicResolver             topic resolver
+     * @deprecated use {@link #PulsarConsumerProcessor(ApplicationEventPublisher, BeanContext, PulsarClient,
+     * DefaultSchemaHandler, DefaultPulsarClientConfiguration, TopicResolver, PulsarInterceptorResolver)}
+     */
+    @Deprecated
     public PulsarConsumerProcessor(final ApplicationEventPublisher<Object> applicationEventPublisher,
                                    final BeanContext beanContext,
                                    final PulsarClient pulsarClient,
                                    final DefaultSchemaHandler simpleSchemaResolver,
                                    final DefaultPulsarClientConfiguration pulsarClientConfiguration,
                                    final TopicResolver topicResolver) {
+        this(applicationEventPublisher,
+            beanContext,
+            pulsarClient,
+            simpleSchemaResolver,
+            pulsarClientConfiguration,
+            topicResolver,
+            new PulsarInterceptorResolver(beanContext));
+    }
+
+    /**
+     * @param applicationEventPublisher publisher of subscription events
+     * @param beanContext               bean context
+     * @param pulsarClient              main Pulsar client
+     * @param simpleSchemaResolver      schema resolver
+     * @param pulsarClientConfiguration Pulsar client configuration
+     * @param topicResolver             topic resolver
+     * @param interceptorResolver       resolver of consumer interceptor beans
+     * @since 1.3.0
+     */
+    @Inject
+    public PulsarConsumerProcessor(final ApplicationEventPublisher<Object> applicationEventPublisher,
+                                   final BeanContext beanContext,
+                                   final PulsarClient pulsarClient,
+                                   final DefaultSchemaHandler simpleSchemaResolver,
+                                   final DefaultPulsarClientConfiguration pulsarClientConfiguration,
+                                   final TopicResolver topicResolver,
+                                   final PulsarInterceptorResolver interceptorResolver) {
         this.applicationEventPublisher = applicationEventPublisher;
         this.beanContext = beanContext;
         this.pulsarClient = pulsarClient;
         this.simpleSchemaResolver = simpleSchemaResolver;
         this.pulsarClientConfiguration = pulsarClientConfiguration;
         this.topicResolver = topicResolver;
+        this.interceptorResolver = interceptorResolver;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void process(final BeanDefinition<?> beanDefinition, final ExecutableMethod<?, ?> method) {
+        subscribe(beanDefinition, method, topicResolver);
+    }
+
+    /**
+     * Create and subscribe Pulsar consumer for the method.
+     *
+     * @param beanDefinition definition of a bean that declares method annotated with {@link PulsarConsumer}
+     * @param method         executable method that serves as a message consumer
+     * @param resolver       resolver of topics and consumer name; may be bound to a specific tenant
+     * @return future completed once consumer subscribes; completed with null if no consumer was created
+     * @since 1.3.0
+     */
+    protected CompletableFuture<Consumer<?>> subscribe(final BeanDefinition<?> beanDefinition,
+                                                       final ExecutableMethod<?, ?> method,
+                                                       final TopicResolver resolver) {
         final AnnotationValue<PulsarConsumer> consumerAnnotation = method.getDeclaredAnnotation(PulsarConsumer.class);
         if (null == consumerAnnotation) {
-            return;
+            return CompletableFuture.completedFuture(null);
+        }
+        return subscribe(beanDefinition, method, resolver, getConsumerName(consumerAnnotation));
+    }
+
+    /**
+     * Create and subscribe Pulsar consumer for the method under given name. Consumer id is reserved until
+     * subscription completes thus concurrent subscriptions of the same consumer don't create duplicates.
+     *
+     * @param beanDefinition definition of a bean that declares method annotated with {@link PulsarConsumer}
+     * @param method         executable method that serves as a message consumer
+     * @param resolver       resolver of topics and consumer name; may be bound to a specific tenant
+     * @param name           consumer name as returned by {@link #getConsumerName(AnnotationValue)}
+     * @return future completed once consumer subscribes; completed with null if no consumer was created
+     * @since 1.3.0
+     */
+    @SuppressWarnings("unchecked")
+    protected CompletableFuture<Consumer<?>> subscribe(final BeanDefinition<?> beanDefinition,
+                                                       final ExecutableMethod<?, ?> method,
+                                                       final TopicResolver resolver,
+                                                       final String name) {
+        final AnnotationValue<PulsarConsumer> consumerAnnotation = method.getDeclaredAnnotation(PulsarConsumer.class);
+        if (null == consumerAnnotation) {
+            return CompletableFuture.completedFuture(null);
         }
 
         final TopicResolver.TopicResolved topicResolved = TopicResolver.extractTopic(consumerAnnotation);
-        final String name = getConsumerName(consumerAnnotation);
-        final String consumerId = topicResolver.generateIdFromMessagingClientName(name, topicResolved);
+        final String consumerId = resolver.generateIdFromMessagingClientName(name, topicResolved);
+
+        final List<ExecutableMethod<Object, ?>> routes;
+        if (method.hasAnnotation(PulsarRoute.class)) {
+            if (!consumerAnnotation.stringValue("consumerName").isPresent()) {
+                throw new MessageListenerException("Routed consumer " + method.getDescription(false)
+                    + " must specify consumerName shared by all of its routes");
+            }
+            final Class<?> routedBean = routedConsumers.putIfAbsent(consumerId, beanDefinition.getBeanType());
+            if (beanDefinition.getBeanType() == routedBean) {
+                // consumer was already created when processing first route of the group
+                return CompletableFuture.completedFuture(null);
+            }
+            if (null != routedBean) {
+                throw new MessageListenerException(String.format("Consumer %s already exists in %s", consumerId,
+                    routedBean.getName()));
+            }
+            try {
+                routes = findRoutes(beanDefinition, method, name, topicResolved);
+            } catch (RuntimeException e) {
+                routedConsumers.remove(consumerId);
+                throw e;
+            }
+        } else {
+            routes = null;
+        }
+
+        if (!reserve(consumerId)) {
+            if (null != routes) {
+                routedConsumers.remove(consumerId);
+            }
+            return onDuplicateConsumer(consumerId, topicResolved);
+        }
+        try {
+            return subscribeReserved(beanDefinition, castMethodOf(method), consumerAnnotation, topicResolved, routes,
+                resolver, name, consumerId);
+        } catch (RuntimeException | Error e) {
+            if (null != routes) {
+                routedConsumers.remove(consumerId);
+            }
+            subscribing.remove(consumerId);
+            throw e;
+        }
+    }
+
+    /**
+     * Called when subscribing consumer whose id is already taken by a subscribed consumer or by one being subscribed.
+     *
+     * @param consumerId consumer id
+     * @param topic      topic of the consumer
+     * @return result of the subscription; by default fails with {@link MessageListenerException}
+     * @since 1.3.0
+     */
+    protected CompletableFuture<Consumer<?>> onDuplicateConsumer(final String consumerId,
+                                                                 final TopicResolver.TopicResolved topic) {
+        throw new MessageListenerException(String.format("Consumer %s already exists", consumerId));
+    }
 
+    /**
+     * Consumers are added to the registry before their reservation is released thus id is always either reserved or
+     * registered while subscribing.
+     */
+    private boolean reserve(final String consumerId) {
+        if (!subscribing.add(consumerId)) {
+            return false;
+        }
         if (consumers.containsKey(consumerId)) {
-            throw new MessageListenerException(String.format("Consumer %s already exists", consumerId));
+            subscribing.remove(consumerId);
+            return false;
         }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ExecutableMethod<Object, ?> castMethodOf(final ExecutableMethod<?, ?> method) {
+        return (ExecutableMethod<Object, ?>) method;
+    }
 
+    private CompletableFuture<Consumer<?>> subscribeReserved(final BeanDefinition<?> beanDefinition,
+                                                             final ExecutableMethod<Object, ?> method,
+                                                             final AnnotationValue<PulsarConsumer> consumerAnnotation,
+                                                             final TopicResolver.TopicResolved topicResolved,
+                                                             @Nullable final List<ExecutableMethod<Object, ?>> routes,
+                                                             final TopicResolver resolver,
+                                                             final String name,
+                                                             final String consumerId) {
         final AnnotationValue<PulsarSubscription> subscriptionAnnotation = method.getAnnotation(PulsarSubscription.class);
         final Argument<?>[] arguments = method.getArguments();
         if (ArrayUtils.isEmpty(arguments)) {
             throw new MessageListenerException("Method annotated with PulsarConsumer must accept at least 1 parameter");
         }
 
-        final ExecutableMethod<Object, ?> castMethod = (ExecutableMethod<Object, ?>) method;
         final Object bean = beanContext.getBean(beanDefinition.getBeanType());
 
         final ConsumerBuilder<?> consumerBuilder = processConsumerAnnotation(consumerAnnotation,
             subscriptionAnnotation,
-            castMethod,
+            method,
             bean,
-            topicResolved);
+            topicResolved,
+            routes,
+            resolver);
         final boolean subscribeAsync = consumerAnnotation.getRequiredValue("subscribeAsync", Boolean.class);
         consumerBuilder.consumerName(name);
         if (subscribeAsync) {
-            consumerBuilder.subscribeAsync().handle((consumer, ex) -> {
+            return consumerBuilder.subscribeAsync().handle((consumer, ex) -> {
                 if (null != ex) {
+                    if (null != routes) {
+                        routedConsumers.remove(consumerId);
+                    }
+                    subscribing.remove(consumerId);
                     LOG.error("Failed subscribing Pulsar consumer {} {}", method.getDescription(false), consumerId, ex);
                     applicationEventPublisher.publishEventAsync(new ConsumerSubscriptionFailedEvent(ex, consumerId));
                     return new MessageListenerException("Failed to subscribe", ex);
                 }
                 consumers.put(consumerId, consumer);
+                subscribing.remove(consumerId);
                 applicationEventPublisher.publishEventAsync(new ConsumerSubscribedEvent(consumer));
                 if (pulsarClientConfiguration.getShutdownOnSubscriberError()) {
                     String msg = String.format("Failed to subscribe %s %s", consumerId, method.getDescription(false));
                     throw new Error(msg);
                 }
                 return consumer;
-            });
+            }).thenApply(x -> x instanceof Consumer ? (Consumer<?>) x : null);
         } else {
             try {
                 final Consumer<?> consumer = consumerBuilder.subscribe();
                 consumers.put(consumerId, consumer);
+                subscribing.remove(consumerId);
                 applicationEventPublisher.publishEvent(new ConsumerSubscribedEvent(consumer));
+                return CompletableFuture.completedFuture(consumer);
             } catch (Exception e) {
+                // reservation is released by the caller as this always throws
                 LOG.error("Failed subscribing Pulsar consumer {} {}", method.getDescription(false), consumerId, e);
                 applicationEventPublisher.publishEvent(new ConsumerSubscriptionFailedEvent(e, consumerId));
                 if (pulsarClientConfiguration.getShutdownOnSubscriberError()) {
@@ -172,7 +352,9 @@ public class PulsarConsumerProcessor implements ExecutableMethodProcessor<Pulsar
                                                          //? will mess up IntelliJ and compiler so use Object to enable method.invoke
                                                          final ExecutableMethod<Object, ?> method,
                                                          final Object bean,
-                                                         final TopicResolver.TopicResolved topic) {
+                                                         final TopicResolver.TopicResolved topic,
+                                                         @Nullable final List<ExecutableMethod<Object, ?>> routes,
+                                                         final TopicResolver resolver) {
         final PulsarArgumentHandler argHandler = new PulsarArgumentHandler(method.getArguments(), method.getDescription(false));
         final Schema<?> schema = simpleSchemaResolver.decideSchema(argHandler.getBodyArgument(),
             argHandler.getKeyArgument(),
@@ -182,8 +364,9 @@ public class PulsarConsumerProcessor implements ExecutableMethodProcessor<Pulsar
         final ConsumerBuilder<?> consumer = new ConsumerBuilderImpl<>((PulsarClientImpl) pulsarClient, schema);
         consumerAnnotation.stringValue("consumerName").ifPresent(consumer::consumerName);
 
-        resolveTopic(consumerAnnotation, consumer, topic);
-        resolveDeadLetter(consumerAnnotation, consumer);
+        final String[] topics = resolveTopic(consumerAnnotation, consumer, topic, resolver);
+        intercept(consumer, topics);
+        resolveDeadLetter(consumerAnnotation, consumer, resolver);
 
         if (null != subscription) {
             subscriptionValues(subscription, consumer);
@@ -200,19 +383,134 @@ public class PulsarConsumerProcessor implements ExecutableMethodProcessor<Pulsar
             }
         });
 
-        consumer.messageListener(new DefaultListener(method, argHandler.isMessageWrapper(), bean, argHandler));
+        if (null == routes) {
+            consumer.messageListener(createListener(method, argHandler, bean));
+        } else {
+            consumer.messageListener(createRoutingListener(routes, argHandler, bean));
+        }
 
         return consumer;
     }
 
-    private void resolveDeadLetter(AnnotationValue<PulsarConsumer> consumerAnnotation, ConsumerBuilder<?> consumerBuilder) {
+    private <T> void intercept(final ConsumerBuilder<T> consumer, final String[] topics) {
+        final ConsumerInterceptor<T>[] interceptors = interceptorResolver.consumerInterceptors(topics);
+        if (interceptors.length > 0) {
+            consumer.intercept(interceptors);
+        }
+    }
+
+    private MessageListenerResolver createListener(final ExecutableMethod<Object, ?> method,
+                                                   final PulsarArgumentHandler argHandler,
+                                                   final Object bean) {
+        final AnnotationValue<PulsarIdempotent> idempotent = method.getAnnotation(PulsarIdempotent.class);
+        final ProcessedMessagesCache processedMessages = null == idempotent ? null
+            : ProcessedMessagesCache.of(idempotent, method.getDescription(false));
+
+        final Predicate<Message<?>> filter = MessageFilters.compile(
+            method.getAnnotationValuesByType(PulsarFilter.class), method.getDescription(false));
+
+        return new DefaultListener(method, argHandler.isMessageWrapper(), bean, argHandler, processedMessages, filter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ExecutableMethod<Object, ?>> findRoutes(final BeanDefinition<?> beanDefinition,
+                                                         final ExecutableMethod<?, ?> method,
+                                                         final String name,
+                                                         final TopicResolver.TopicResolved topic) {
+        final List<ExecutableMethod<Object, ?>> routes = new ArrayList<>();
+        for (ExecutableMethod<?, ?> candidate : beanDefinition.getExecutableMethods()) {
+            final AnnotationValue<PulsarConsumer> annotation = candidate.getDeclaredAnnotation(PulsarConsumer.class);
+            if (null == annotation || !candidate.hasAnnotation(PulsarRoute.class)
+                || !annotation.stringValue("consumerName").filter(name::equals).isPresent()) {
+                continue;
+            }
+            final TopicResolver.TopicResolved candidateTopic = TopicResolver.extractTopic(annotation);
+            final boolean sameTopic = candidateTopic.isArray()
+                ? topic.isArray() && Arrays.equals(candidateTopic.getTopics(), topic.getTopics())
+                : !topic.isArray() && candidateTopic.getTopic().equals(topic.getTopic());
+            if (sameTopic && candidateTopic.isPattern() == topic.isPattern()) {
+                requireSameSettings(method, candidate);
+                routes.add((ExecutableMethod<Object, ?>) candidate);
+            }
+        }
+        return routes;
+    }
+
+    /**
+     * Routes share a single consumer thus consumer and subscription settings of all of them must match; otherwise
+     * the ones of the route processed first would silently apply to all.
+     */
+    private static void requireSameSettings(final ExecutableMethod<?, ?> method, final ExecutableMethod<?, ?> route) {
+        if (!sameValues(method.getDeclaredAnnotation(PulsarConsumer.class),
+            route.getDeclaredAnnotation(PulsarConsumer.class), ROUTE_CONSUMER_SETTINGS)
+            || !sameValues(method.getAnnotation(PulsarSubscription.class),
+            route.getAnnotation(PulsarSubscription.class), ROUTE_SUBSCRIPTION_SETTINGS)) {
+            throw new MessageListenerException("All routes of a consumer must declare the same consumer and "
+                + "subscription settings; " + route.getDescription(false) + " differs from "
+                + method.getDescription(false));
+        }
+    }
+
+    private static boolean sameValues(@Nullable final AnnotationValue<?> first,
+                                      @Nullable final AnnotationValue<?> second,
+                                      final String[] members) {
+        if (null == first || null == second) {
+            return first == second;
+        }
+        for (String member : members) {
+            if (!first.get(member, String.class).equals(second.get(member, String.class))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private MessageListenerResolver createRoutingListener(final List<ExecutableMethod<Object, ?>> routes,
+                                                          final PulsarArgumentHandler consumerArgs,
+                                                          final Object bean) {
+        final Class<?> bodyType = DefaultSchemaHandler.bodyType(consumerArgs.getBodyArgument());
+        final Argument<?> keyArgument = consumerArgs.getKeyArgument();
+        final Map<String, MessageListenerResolver> table = new HashMap<>(routes.size());
+        String property = null;
+        for (ExecutableMethod<Object, ?> route : routes) {
+            final String target = route.getDescription(false);
+            if (ArrayUtils.isEmpty(route.getArguments())) {
+                throw new MessageListenerException("Method annotated with PulsarConsumer must accept at least 1 parameter");
+            }
+            final AnnotationValue<PulsarRoute> routeAnnotation = route.getAnnotation(PulsarRoute.class);
+            final String routeProperty = routeAnnotation.stringValue("property").orElse("type");
+            if (null == property) {
+                property = routeProperty;
+            } else if (!property.equals(routeProperty)) {
+                throw new MessageListenerException("All routes of a consumer must use the same property; "
+                    + target + " uses " + routeProperty + " instead of " + property);
+            }
+            final PulsarArgumentHandler argHandler = new PulsarArgumentHandler(route.getArguments(), target);
+            final Argument<?> routeKey = argHandler.getKeyArgument();
+            if (bodyType != DefaultSchemaHandler.bodyType(argHandler.getBodyArgument())
+                || (null == keyArgument) != (null == routeKey)
+                || (null != keyArgument && keyArgument.getType() != routeKey.getType())) {
+                throw new MessageListenerException("All routes of a consumer must accept the same body and key types: "
+                    + target);
+            }
+            final String value = routeAnnotation.getRequiredValue(String.class);
+            if (null != table.put(value, createListener(route, argHandler, bean))) {
+                throw new MessageListenerException("Duplicate route " + property + "=" + value + " on " + target);
+            }
+        }
+        return new RoutingListener(property, table);
+    }
+
+    private void resolveDeadLetter(AnnotationValue<PulsarConsumer> consumerAnnotation,
+                                   ConsumerBuilder<?> consumerBuilder,
+                                   TopicResolver resolver) {
         if (!this.pulsarClientConfiguration.getUseDeadLetterQueue()) {
             return;
         }
         final DeadLetterPolicy.DeadLetterPolicyBuilder builder = DeadLetterPolicy.builder();
         final Optional<String> deadLetterTopic = consumerAnnotation.stringValue("deadLetterTopic");
         if (deadLetterTopic.isPresent()) {
-            final String topic = topicResolver.resolve(deadLetterTopic.get());
+            final String topic = resolver.resolve(deadLetterTopic.get());
             builder.deadLetterTopic(topic);
         }
         int maxRedeliverCount = consumerAnnotation.intValue("maxRetriesBeforeDlq")
@@ -221,16 +519,22 @@ public class PulsarConsumerProcessor implements ExecutableMethodProcessor<Pulsar
         consumerBuilder.deadLetterPolicy(builder.build());
     }
 
-    private void resolveTopic(final AnnotationValue<PulsarConsumer> consumerAnnotation,
-                              final ConsumerBuilder<?> consumer,
-                              final TopicResolver.TopicResolved topic) {
+    private String[] resolveTopic(final AnnotationValue<PulsarConsumer> consumerAnnotation,
+                                  final ConsumerBuilder<?> consumer,
+                                  final TopicResolver.TopicResolved topic,
+                                  final TopicResolver resolver) {
+        final String[] topics;
         if (topic.isPattern()) {
-            resolveTopicsPattern(consumerAnnotation, consumer, topicResolver.resolve(topic.getTopic()));
+            topics = new String[]{resolver.resolve(topic.getTopic())};
+            resolveTopicsPattern(consumerAnnotation, consumer, topics[0]);
         } else if (topic.isArray()) {
-            consumer.topic(Arrays.stream(topic.getTopics()).map(topicResolver::resolve).toArray(String[]::new));
+            topics = Arrays.stream(topic.getTopics()).map(resolver::resolve).toArray(String[]::new);
+            consumer.topic(topics);
         } else {
-            consumer.topic(topicResolver.resolve(topic.getTopic()));
+            topics = new String[]{resolver.resolve(topic.getTopic())};
+            consumer.topic(topics);
         }
+        return topics;
     }
 
     private void resolveTopicsPattern(final AnnotationValue<PulsarConsumer> consumerAnnotation,
@@ -340,4 +644,16 @@ public class PulsarConsumerProcessor implements ExecutableMethodProcessor<Pulsar
         final Consumer<?> consumer = paused.remove(id);
         consumer.resume();
     }
+
+    @Override
+    public CompletableFuture<Void> removeConsumer(@NonNull String id) {
+        ArgumentUtils.requireNonNull("id", id);
+        final Consumer<?> consumer = consumers.remove(id);
+        paused.remove(id);
+        routedConsumers.remove(id);
+        if (null == consumer) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return consumer.closeAsync();
+    }
 }
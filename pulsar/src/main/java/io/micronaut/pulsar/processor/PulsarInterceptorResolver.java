@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.processor;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.BeanRegistration;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.order.OrderUtil;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.pulsar.annotation.PulsarInterceptor;
+import jakarta.inject.Singleton;
+import org.apache.pulsar.client.api.Consumer;
+import org.apache.pulsar.client.api.ConsumerInterceptor;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.Producer;
+import org.apache.pulsar.client.api.interceptor.ProducerInterceptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Collects {@link ConsumerInterceptor} and {@link ProducerInterceptor} beans, ordered by
+ * {@link io.micronaut.core.order.Ordered} or {@link io.micronaut.core.annotation.Order}, and selects ones applicable to
+ * a consumer or a producer by {@link PulsarInterceptor} topic pattern. Selection is done once while building consumers
+ * and producers so Pulsar client invokes a fixed chain per message without any lookups.
+ * <p>
+ * Interceptor beans are shared among consumers and producers thus Pulsar client is given wrappers which ignore
+ * {@code close()} calls made on consumer or producer shutdown. Bean lifecycle is left to the bean context.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Singleton
+@Internal
+public class PulsarInterceptorResolver {
+
+    private final BeanContext beanContext;
+    private volatile List<Candidate<ConsumerInterceptor<?>>> consumerInterceptors;
+    private volatile List<Candidate<ProducerInterceptor>> producerInterceptors;
+
+    public PulsarInterceptorResolver(final BeanContext beanContext) {
+        this.beanContext = beanContext;
+    }
+
+    /**
+     * @param topics resolved topic names or topic pattern of the consumer
+     * @param <T>    consumer message type
+     * @return ordered interceptors applicable to given topics; empty array if none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ConsumerInterceptor<T>[] consumerInterceptors(final String... topics) {
+        List<Candidate<ConsumerInterceptor<?>>> candidates = consumerInterceptors;
+        if (null == candidates) {
+            candidates = collect(ConsumerInterceptor.class);
+            consumerInterceptors = candidates;
+        }
+        return candidates.stream()
+            .filter(x -> x.matches(topics))
+            .map(x -> new SharedConsumerInterceptor<>((ConsumerInterceptor<T>) x.interceptor))
+            .toArray(size -> (ConsumerInterceptor<T>[]) new ConsumerInterceptor<?>[size]);
+    }
+
+    /**
+     * @param topic resolved topic name of the producer
+     * @return ordered interceptors applicable to given topic; empty array if none
+     */
+    public ProducerInterceptor[] producerInterceptors(final String topic) {
+        List<Candidate<ProducerInterceptor>> candidates = producerInterceptors;
+        if (null == candidates) {
+            candidates = collect(ProducerInterceptor.class);
+            producerInterceptors = candidates;
+        }
+        return candidates.stream()
+            .filter(x -> x.matches(topic))
+            .map(x -> new SharedProducerInterceptor(x.interceptor))
+            .toArray(ProducerInterceptor[]::new);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <I> List<Candidate<I>> collect(final Class<?> type) {
+        final List<BeanRegistration<I>> registrations = new ArrayList<>(
+            (Collection) beanContext.getBeanRegistrations(type));
+        OrderUtil.sort(registrations);
+        final List<Candidate<I>> candidates = new ArrayList<>(registrations.size());
+        for (BeanRegistration<I> registration : registrations) {
+            final Pattern pattern = registration.getBeanDefinition()
+                .stringValue(PulsarInterceptor.class, "topicsPattern")
+                .filter(StringUtils::isNotEmpty)
+                .map(Pattern::compile)
+                .orElse(null);
+            candidates.add(new Candidate<>(registration.getBean(), pattern));
+        }
+        return candidates;
+    }
+
+    private static final class Candidate<I> {
+        private final I interceptor;
+        @Nullable
+        private final Pattern topicsPattern;
+
+        private Candidate(final I interceptor, @Nullable final Pattern topicsPattern) {
+            this.interceptor = interceptor;
+            this.topicsPattern = topicsPattern;
+        }
+
+        private boolean matches(final String... topics) {
+            if (null == topicsPattern) {
+                return true;
+            }
+            return Arrays.stream(topics).anyMatch(x -> topicsPattern.matcher(x).matches());
+        }
+    }
+
+    private static final class SharedConsumerInterceptor<T> implements ConsumerInterceptor<T> {
+        private final ConsumerInterceptor<T> delegate;
+
+        private SharedConsumerInterceptor(final ConsumerInterceptor<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void close() {
+            // interceptor is a bean managed by the context
+        }
+
+        @Override
+        public Message<T> beforeConsume(final Consumer<T> consumer, final Message<T> message) {
+            return delegate.beforeConsume(consumer, message);
+        }
+
+        @Override
+        public void onAcknowledge(final Consumer<T> consumer, final MessageId messageId, final Throwable exception) {
+            delegate.onAcknowledge(consumer, messageId, exception);
+        }
+
+        @Override
+        public void onAcknowledgeCumulative(final Consumer<T> consumer, final MessageId messageId, final Throwable exception) {
+            delegate.onAcknowledgeCumulative(consumer, messageId, exception);
+        }
+
+        @Override
+        public void onNegativeAcksSend(final Consumer<T> consumer, final Set<MessageId> messageIds) {
+            delegate.onNegativeAcksSend(consumer, messageIds);
+        }
+
+        @Override
+        public void onAckTimeoutSend(final Consumer<T> consumer, final Set<MessageId> messageIds) {
+            delegate.onAckTimeoutSend(consumer, messageIds);
+        }
+
+        @Override
+        public void onPartitionsChange(final String topicName, final int partitions) {
+            delegate.onPartitionsChange(topicName, partitions);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final class SharedProducerInterceptor implements ProducerInterceptor {
+        private final ProducerInterceptor delegate;
+
+        private SharedProducerInterceptor(final ProducerInterceptor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void close() {
+            // interceptor is a bean managed by the context
+        }
+
+        @Override
+        public boolean eligible(final Message message) {
+            return delegate.eligible(message);
+        }
+
+        @Override
+        public Message beforeSend(final Producer producer, final Message message) {
+            return delegate.beforeSend(producer, message);
+        }
+
+        @Override
+        public void onSendAcknowledgement(final Producer producer,
+                                          final Message message,
+                                          final MessageId msgId,
+                                          final Throwable exception) {
+            delegate.onSendAcknowledgement(producer, message, msgId, exception);
+        }
+
+        @Override
+        public void onPartitionsChange(final String topicName, final int partitions) {
+            delegate.onPartitionsChange(topicName, partitions);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.processor;
+
+import org.apache.pulsar.client.api.Consumer;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Listener of a consumer shared by multiple {@link io.micronaut.pulsar.annotation.PulsarRoute} methods. Dispatches
+ * messages to a listener of the route by the value of the route property using a table built when consumer is created.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked", "serial"})
+public class RoutingListener implements MessageListenerResolver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RoutingListener.class);
+
+    private final String property;
+    private final Map<String, MessageListener> routes;
+
+    /**
+     * @param property name of the message property holding route key
+     * @param routes   listeners by route key
+     */
+    public RoutingListener(final String property, final Map<String, ? extends MessageListener> routes) {
+        this.property = property;
+        this.routes = new HashMap<>(routes);
+    }
+
+    @Override
+    public void received(final Consumer consumer, final Message msg) {
+        final String route = msg.getProperty(property);
+        final MessageListener listener = null == route ? null : routes.get(route);
+        if (null == listener) {
+            LOG.debug("No route for message [{}] with {}={} on [{}]", msg.getMessageId(), property, route,
+                consumer.getConsumerName());
+            consumer.acknowledgeAsync(msg);
+            return;
+        }
+        listener.received(consumer, msg);
+    }
+}
@@ -32,18 +32,51 @@ import java.util.Arrays;
  */
 @FunctionalInterface
 public interface TopicResolver {
+
+    /**
+     * Placeholder replaced by the current tenant name in topic names.
+     *
+     * @since 1.3.0
+     */
+    String TENANT_PLACEHOLDER = "${tenant}";
+
     String resolve(String topic);
 
     default String generateIdFromMessagingClientName(final String name, final TopicResolved topicResolved) {
         return name;
     }
 
+    /**
+     * Resolver for creating clients of a specific tenant without relying on the tenant of the current context.
+     *
+     * @param tenant tenant name
+     * @return resolver which replaces tenant placeholder with given tenant; same resolver if tenants are not supported
+     * @since 1.3.0
+     */
+    default TopicResolver forTenant(final String tenant) {
+        return this;
+    }
+
+    /**
+     * Forget anything cached for a tenant, like its validated name and resolved topic names, once the tenant is
+     * removed.
+     *
+     * @param tenant tenant name
+     * @since 1.3.0
+     */
+    default void removeTenant(final String tenant) {
+    }
+
     static String replaceTenantInTopic(final String topic, final String tenant) {
-        return topic.replaceFirst("\\$\\{(tenant)}", tenant);
+        final int index = topic.indexOf(TENANT_PLACEHOLDER);
+        if (index < 0) {
+            return topic;
+        }
+        return topic.substring(0, index) + tenant + topic.substring(index + TENANT_PLACEHOLDER.length());
     }
 
     static boolean isDynamicTenantInTopic(final String topic) {
-        return topic.contains("${tenant}");
+        return topic.contains(TENANT_PLACEHOLDER);
     }
 
     @NonNull
@@ -70,10 +103,16 @@ public interface TopicResolver {
     final class TopicResolved {
         private final Object value;
         private final boolean isPattern;
+        private final boolean isDynamicTenant;
 
         TopicResolved(Object value, boolean isPattern) {
             this.value = value;
             this.isPattern = isPattern;
+            if (value instanceof String[]) {
+                isDynamicTenant = Arrays.stream((String[]) value).anyMatch(TopicResolver::isDynamicTenantInTopic);
+            } else {
+                isDynamicTenant = TopicResolver.isDynamicTenantInTopic((String) value);
+            }
         }
 
         public String getTopic() {
@@ -99,10 +138,7 @@ public interface TopicResolver {
         }
 
         public boolean isDynamicTenant() {
-            if (isArray()) {
-                return Arrays.stream(getTopics()).anyMatch(TopicResolver::isDynamicTenantInTopic);
-            }
-            return TopicResolver.isDynamicTenantInTopic(getTopic());
+            return isDynamicTenant;
         }
     }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.schemas;
+
+import io.micronaut.pulsar.schemas.avro.AvroSpecificReader;
+import io.micronaut.pulsar.schemas.avro.AvroSpecificWriter;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.api.schema.SchemaDefinition;
+import org.apache.pulsar.client.impl.schema.AvroBaseStructSchema;
+import org.apache.pulsar.client.impl.schema.SchemaDefinitionBuilderImpl;
+import org.apache.pulsar.client.impl.schema.util.SchemaUtil;
+import org.apache.pulsar.common.schema.SchemaInfo;
+import org.apache.pulsar.common.schema.SchemaType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AVRO Schema for classes generated by AVRO compiler. Unlike reflection based AVRO schema, it uses the schema and the
+ * generated accessors of {@link SpecificRecord} classes.
+ *
+ * @param <T> generated AVRO class
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+public final class AvroSpecificSchema<T> extends AvroBaseStructSchema<T> {
+
+    private static final Map<Class<?>, AvroSpecificSchema<?>> SCHEMAS = new ConcurrentHashMap<>(10);
+
+    private final SpecificData data;
+
+    private AvroSpecificSchema(final SchemaInfo schemaInfo, final SpecificData data) {
+        super(schemaInfo);
+        this.data = data;
+        this.setReader(new AvroSpecificReader<>(schema, data));
+        this.setWriter(new AvroSpecificWriter<>(schema, data));
+    }
+
+    /**
+     * @param type generated AVRO class
+     * @param <T>  generated AVRO class
+     * @return schema for given class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AvroSpecificSchema<T> of(final Class<T> type) {
+        if (!SpecificRecord.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(type.getName() + " is not a generated AVRO class");
+        }
+        return (AvroSpecificSchema<T>) SCHEMAS.computeIfAbsent(type, x -> {
+            final SpecificData data = SpecificData.getForClass(type);
+            final SchemaDefinition<T> schemaDefinition = new SchemaDefinitionBuilderImpl<T>()
+                .withJsonDef(data.getSchema(type).toString())
+                .withClassLoader(type.getClassLoader())
+                .build();
+            return new AvroSpecificSchema<>(SchemaUtil.parseSchemaInfo(schemaDefinition, SchemaType.AVRO), data);
+        });
+    }
+
+    @Override
+    public boolean supportSchemaVersioning() {
+        return true;
+    }
+
+    /**
+     * Readers keep schema versions per topic thus each consumer or reader gets its own copy.
+     *
+     * @return new schema sharing the class model
+     */
+    @Override
+    public Schema<T> clone() {
+        return new AvroSpecificSchema<>(schemaInfo, data);
+    }
+}
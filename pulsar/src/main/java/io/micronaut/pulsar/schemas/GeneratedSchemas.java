@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.schemas;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.io.IOUtils;
+import org.apache.pulsar.client.api.schema.SchemaDefinitionBuilder;
+import org.apache.pulsar.client.impl.schema.SchemaDefinitionBuilderImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Schema definitions for JSON and AVRO message types which use AVRO definitions generated at compile time by
+ * {@code micronaut-pulsar-processor} when available, instead of deriving them through reflection.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Internal
+public final class GeneratedSchemas {
+
+    /**
+     * Location of definitions generated by the annotation processor.
+     */
+    public static final String SCHEMAS_PATH = "META-INF/pulsar/schemas/";
+
+    private static final Logger LOG = LoggerFactory.getLogger(GeneratedSchemas.class);
+
+    private GeneratedSchemas() {
+    }
+
+    /**
+     * @param pojo message type
+     * @param <T>  message type
+     * @return schema definition builder for given type with generated AVRO definition set if one exists
+     */
+    public static <T> SchemaDefinitionBuilder<T> definitionBuilder(final Class<T> pojo) {
+        final ClassLoader classLoader = null == pojo.getClassLoader()
+            ? GeneratedSchemas.class.getClassLoader()
+            : pojo.getClassLoader();
+        final InputStream definition = classLoader.getResourceAsStream(SCHEMAS_PATH + pojo.getName() + ".avsc");
+        if (null == definition) {
+            return new SchemaDefinitionBuilderImpl<T>().withPojo(pojo);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(definition, StandardCharsets.UTF_8))) {
+            // Pulsar doesn't allow both pojo and definition; class loader is what AVRO needs to find the class
+            return new SchemaDefinitionBuilderImpl<T>()
+                .withJsonDef(IOUtils.readText(reader))
+                .withClassLoader(classLoader);
+        } catch (IOException ex) {
+            LOG.warn("Failed to read generated schema for {}; falling back to reflection", pojo.getName(), ex);
+            return new SchemaDefinitionBuilderImpl<T>().withPojo(pojo);
+        }
+    }
+}
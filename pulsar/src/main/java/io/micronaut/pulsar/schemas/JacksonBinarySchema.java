@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.schemas;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import org.apache.pulsar.client.api.SchemaSerializationException;
+import org.apache.pulsar.client.impl.schema.AbstractSchema;
+import org.apache.pulsar.client.impl.schema.BytesSchema;
+import org.apache.pulsar.common.schema.SchemaInfo;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Schema for binary formats backed by Jackson, like CBOR or MessagePack, which map POJOs the same way as JSON does.
+ * Registered with Pulsar as BYTES since Pulsar doesn't know these formats, thus topics keep no schema definition and
+ * producers and consumers must agree on the format.
+ *
+ * @param <T> POJO type to send and receive via Pulsar.
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+public final class JacksonBinarySchema<T> extends AbstractSchema<T> {
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    /**
+     * @param mapper mapper for the binary format
+     * @param pojo   the pojo type to map
+     */
+    public JacksonBinarySchema(final ObjectMapper mapper, final Class<T> pojo) {
+        this.reader = mapper.readerFor(pojo);
+        this.writer = mapper.writerFor(pojo);
+    }
+
+    @Override
+    public byte[] encode(final T message) {
+        try {
+            return writer.writeValueAsBytes(message);
+        } catch (IOException ex) {
+            throw new SchemaSerializationException(ex);
+        }
+    }
+
+    @Override
+    public T decode(final byte[] bytes) {
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException ex) {
+            throw new SchemaSerializationException(ex);
+        }
+    }
+
+    @Override
+    public T decode(final ByteBuf byteBuf) {
+        try {
+            if (byteBuf.hasArray()) {
+                return reader.readValue(byteBuf.array(), byteBuf.arrayOffset() + byteBuf.readerIndex(),
+                    byteBuf.readableBytes());
+            }
+            // duplicate keeps reader index of the caller buffer intact
+            return reader.readValue((InputStream) new ByteBufInputStream(byteBuf.duplicate()));
+        } catch (IOException ex) {
+            throw new SchemaSerializationException(ex);
+        }
+    }
+
+    @Override
+    public SchemaInfo getSchemaInfo() {
+        return BytesSchema.of().getSchemaInfo();
+    }
+}
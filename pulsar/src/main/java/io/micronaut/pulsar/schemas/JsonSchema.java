@@ -18,11 +18,11 @@ package io.micronaut.pulsar.schemas;
 import io.micronaut.json.JsonMapper;
 import io.micronaut.pulsar.schemas.json.JsonReader;
 import io.micronaut.pulsar.schemas.json.JsonWriter;
+import io.netty.buffer.ByteBuf;
 import org.apache.pulsar.client.api.schema.SchemaDefinition;
 import org.apache.pulsar.client.api.schema.SchemaReader;
 import org.apache.pulsar.client.api.schema.SchemaWriter;
 import org.apache.pulsar.client.impl.schema.AvroBaseStructSchema;
-import org.apache.pulsar.client.impl.schema.SchemaDefinitionBuilderImpl;
 import org.apache.pulsar.client.impl.schema.util.SchemaUtil;
 import org.apache.pulsar.common.schema.SchemaInfo;
 import org.apache.pulsar.common.schema.SchemaType;
@@ -39,7 +39,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class JsonSchema<T> extends AvroBaseStructSchema<T> {
 
-    private static final Map<Integer, JsonSchema<?>> SCHEMAS = new ConcurrentHashMap<>(10);
+    private static final Map<SchemaCacheKey, JsonSchema<?>> SCHEMAS = new ConcurrentHashMap<>(10);
 
     public JsonSchema(SchemaInfo schemaInfo, SchemaReader<T> reader, SchemaWriter<T> writer) {
         super(schemaInfo);
@@ -56,14 +56,28 @@ public class JsonSchema<T> extends AvroBaseStructSchema<T> {
      */
     @SuppressWarnings("unchecked")
     public static <T> JsonSchema<T> of(Class<T> pojo, JsonMapper jsonMapper) {
-        return (JsonSchema<T>) SCHEMAS.computeIfAbsent(pojo.hashCode(), x -> {
+        return (JsonSchema<T>) SCHEMAS.computeIfAbsent(new SchemaCacheKey(pojo, jsonMapper), x -> {
             final SchemaReader<T> reader = new JsonReader<>(jsonMapper, pojo);
-            final SchemaWriter<T> writer = new JsonWriter<>(jsonMapper);
-            final SchemaDefinition<T> schemaDefinition = new SchemaDefinitionBuilderImpl<T>().withPojo(pojo)
+            final SchemaWriter<T> writer = new JsonWriter<>(jsonMapper, pojo);
+            final SchemaDefinition<T> schemaDefinition = GeneratedSchemas.definitionBuilder(pojo)
                 .withSchemaReader(reader)
                 .withSchemaWriter(writer)
                 .build();
             return new JsonSchema<>(SchemaUtil.parseSchemaInfo(schemaDefinition, SchemaType.JSON), reader, writer);
         });
     }
+
+    @Override
+    public T decode(ByteBuf byteBuf) {
+        if (reader instanceof JsonReader) {
+            return ((JsonReader<T>) reader).read(byteBuf);
+        }
+        return super.decode(byteBuf);
+    }
+
+    @Override
+    public T decode(ByteBuf byteBuf, byte[] schemaVersion) {
+        // JSON mapping doesn't depend on writer schema version
+        return decode(byteBuf);
+    }
 }
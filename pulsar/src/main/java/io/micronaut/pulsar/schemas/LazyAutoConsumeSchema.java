@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.schemas;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.pulsar.schemas.json.LazyGenericJsonRecord;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.api.SchemaSerializationException;
+import org.apache.pulsar.client.api.schema.GenericRecord;
+import org.apache.pulsar.client.api.schema.GenericSchema;
+import org.apache.pulsar.client.api.schema.SchemaInfoProvider;
+import org.apache.pulsar.client.impl.schema.AutoConsumeSchema;
+import org.apache.pulsar.common.protocol.schema.SchemaVersion;
+import org.apache.pulsar.common.schema.SchemaInfo;
+import org.apache.pulsar.common.schema.SchemaType;
+
+import java.util.Optional;
+
+/**
+ * {@link Schema#AUTO_CONSUME()} for consumers of {@link GenericRecord}. Records of JSON topics are decoded lazily by
+ * {@link LazyGenericJsonRecord} so reading a few fields doesn't parse the whole message; other schema types are decoded
+ * by Pulsar as usual.
+ * <p>
+ * Pulsar client relies on {@link AutoConsumeSchema} type for fetching schemas by version thus this class extends it,
+ * delegating all the state to a wrapped instance.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Internal
+public final class LazyAutoConsumeSchema extends AutoConsumeSchema {
+
+    private final AutoConsumeSchema delegate;
+
+    public LazyAutoConsumeSchema() {
+        this(new AutoConsumeSchema());
+    }
+
+    private LazyAutoConsumeSchema(final AutoConsumeSchema delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public GenericRecord decode(final byte[] bytes, final byte[] schemaVersion) {
+        final Schema<?> schema = null == schemaVersion
+            ? delegate.getInternalSchema()
+            : delegate.unwrapInternalSchema(schemaVersion);
+        if (schema instanceof GenericSchema && SchemaType.JSON == schema.getSchemaInfo().getType()) {
+            return new LazyGenericJsonRecord(bytes, schemaVersion, ((GenericSchema<?>) schema).getFields(),
+                schema.getSchemaInfo());
+        }
+        return delegate.decode(bytes, schemaVersion);
+    }
+
+    @Override
+    public void setSchema(final SchemaVersion schemaVersion, final Schema<?> schema) {
+        delegate.setSchema(schemaVersion, schema);
+    }
+
+    @Override
+    public void setSchema(final Schema<?> schema) {
+        delegate.setSchema(schema);
+    }
+
+    @Override
+    public void validate(final byte[] message) {
+        delegate.validate(message);
+    }
+
+    @Override
+    public void validate(final byte[] message, final byte[] schemaVersion) {
+        delegate.validate(message, schemaVersion);
+    }
+
+    @Override
+    public byte[] encode(final GenericRecord message) {
+        return delegate.encode(message);
+    }
+
+    @Override
+    public boolean supportSchemaVersioning() {
+        return delegate.supportSchemaVersioning();
+    }
+
+    @Override
+    public Schema<?> atSchemaVersion(final byte[] schemaVersion) {
+        return delegate.atSchemaVersion(schemaVersion);
+    }
+
+    @Override
+    public void setSchemaInfoProvider(final SchemaInfoProvider schemaInfoProvider) {
+        delegate.setSchemaInfoProvider(schemaInfoProvider);
+    }
+
+    @Override
+    public SchemaInfo getSchemaInfo() {
+        return delegate.getSchemaInfo();
+    }
+
+    @Override
+    public SchemaInfo getSchemaInfo(final byte[] schemaVersion) {
+        return delegate.getSchemaInfo(schemaVersion);
+    }
+
+    @Override
+    public void configureSchemaInfo(final String topicName, final String componentName, final SchemaInfo schemaInfo) {
+        delegate.configureSchemaInfo(topicName, componentName, schemaInfo);
+    }
+
+    @Override
+    public Optional<Object> getNativeSchema() {
+        return delegate.getNativeSchema();
+    }
+
+    @Override
+    public boolean requireFetchingSchemaInfo() {
+        return delegate.requireFetchingSchemaInfo();
+    }
+
+    @Override
+    public Schema<?> getInternalSchema() {
+        return delegate.getInternalSchema();
+    }
+
+    @Override
+    public Schema<?> getInternalSchema(final byte[] schemaVersion) {
+        return delegate.getInternalSchema(schemaVersion);
+    }
+
+    @Override
+    public Schema<?> unwrapInternalSchema(final byte[] schemaVersion) {
+        return delegate.unwrapInternalSchema(schemaVersion);
+    }
+
+    @Override
+    public void fetchSchemaIfNeeded(final SchemaVersion schemaVersion) throws SchemaSerializationException {
+        delegate.fetchSchemaIfNeeded(schemaVersion);
+    }
+
+    @Override
+    public Schema<GenericRecord> clone() {
+        return new LazyAutoConsumeSchema((AutoConsumeSchema) delegate.clone());
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
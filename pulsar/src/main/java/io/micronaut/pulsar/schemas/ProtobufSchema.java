@@ -19,6 +19,7 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.protobuf.codec.ProtobufferCodec;
 import io.micronaut.pulsar.schemas.protobuf.ProtobufReader;
 import io.micronaut.pulsar.schemas.protobuf.ProtobufWriter;
+import io.netty.buffer.ByteBuf;
 import org.apache.pulsar.client.api.schema.SchemaDefinition;
 import org.apache.pulsar.client.impl.schema.AbstractStructSchema;
 import org.apache.pulsar.client.impl.schema.SchemaDefinitionBuilderImpl;
@@ -38,7 +39,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class ProtobufSchema<T> extends AbstractStructSchema<T> {
 
-    private static final Map<Integer, ProtobufSchema<?>> SCHEMAS = new ConcurrentHashMap<>(10);
+    private static final Map<SchemaCacheKey, ProtobufSchema<?>> SCHEMAS = new ConcurrentHashMap<>(10);
 
     public ProtobufSchema(final SchemaInfo schemaInfo, final ProtobufReader<T> reader, final ProtobufWriter<T> writer) {
         super(schemaInfo);
@@ -46,9 +47,20 @@ public final class ProtobufSchema<T> extends AbstractStructSchema<T> {
         this.setWriter(writer);
     }
 
+    @Override
+    public T decode(final ByteBuf byteBuf) {
+        return ((ProtobufReader<T>) reader).read(byteBuf);
+    }
+
+    @Override
+    public T decode(final ByteBuf byteBuf, final byte[] schemaVersion) {
+        // protobuf parsing doesn't depend on writer schema version
+        return decode(byteBuf);
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> ProtobufSchema<T> of(final Class<T> type, final ProtobufferCodec codec) {
-        return (ProtobufSchema<T>) SCHEMAS.computeIfAbsent(type.hashCode(), x -> {
+        return (ProtobufSchema<T>) SCHEMAS.computeIfAbsent(new SchemaCacheKey(type, codec), x -> {
             final ProtobufWriter<T> writer = new ProtobufWriter<>(codec);
             final ProtobufReader<T> reader = new ProtobufReader<>(codec, Argument.of(type));
             final SchemaDefinition<T> schemaDefinition = new SchemaDefinitionBuilderImpl<T>()
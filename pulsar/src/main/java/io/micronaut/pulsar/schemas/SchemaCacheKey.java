@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.schemas;
+
+/**
+ * Key for caching schemas per message type and the codec instance that serializes it. Both are compared by identity
+ * so equally named classes from different class loaders, or different mappers, never share a schema.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+final class SchemaCacheKey {
+
+    private final Class<?> type;
+    private final Object codec;
+
+    SchemaCacheKey(final Class<?> type, final Object codec) {
+        this.type = type;
+        this.codec = codec;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SchemaCacheKey)) {
+            return false;
+        }
+        final SchemaCacheKey that = (SchemaCacheKey) o;
+        return type == that.type && codec == that.codec;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(type) + System.identityHashCode(codec);
+    }
+}
@@ -46,6 +46,8 @@ public interface SchemaResolver {
     String JSON_SCHEMA_NAME = "JSON_SCHEMA_RESOLVER";
     String PROTOBUF_SCHEMA_NAME = "PROTOBUF_SCHEMA_RESOLVER";
     String AVRO_SCHEMA_NAME = "AVRO_SCHEMA_RESOLVER";
+    String CBOR_SCHEMA_NAME = "CBOR_SCHEMA_RESOLVER";
+    String MSGPACK_SCHEMA_NAME = "MSGPACK_SCHEMA_RESOLVER";
 
     <T> Schema<T> forArgument(Class<T> pojo);
 }
@@ -15,15 +15,21 @@
  */
 package io.micronaut.pulsar.schemas.avro;
 
+import io.micronaut.pulsar.schemas.AvroSpecificSchema;
+import io.micronaut.pulsar.schemas.GeneratedSchemas;
 import io.micronaut.pulsar.schemas.SchemaResolver;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import org.apache.avro.specific.SpecificRecord;
 import org.apache.pulsar.client.api.Schema;
 import org.apache.pulsar.client.impl.schema.AvroSchema;
-import org.apache.pulsar.client.impl.schema.SchemaDefinitionBuilderImpl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * AVRO schema resolver.
+ * AVRO schema resolver. Classes generated by AVRO compiler use their generated schema and accessors while other
+ * classes are handled by reflection. Schemas are created once per class.
  *
  * @author Haris Secic
  * @since 1.2.1
@@ -31,10 +37,17 @@ import org.apache.pulsar.client.impl.schema.SchemaDefinitionBuilderImpl;
 @Singleton
 @Named(SchemaResolver.AVRO_SCHEMA_NAME)
 public final class AvroSchemaResolver implements SchemaResolver {
+
+    private final Map<Class<?>, Schema<?>> schemas = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Schema<T> forArgument(final Class<T> pojo) {
-        return AvroSchema.of(new SchemaDefinitionBuilderImpl<T>()
-            .withPojo(pojo)
-            .build());
+        return (Schema<T>) schemas.computeIfAbsent(pojo, x -> {
+            if (SpecificRecord.class.isAssignableFrom(pojo)) {
+                return AvroSpecificSchema.of(pojo);
+            }
+            return AvroSchema.of(GeneratedSchemas.definitionBuilder(pojo).build());
+        });
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.schemas.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.pulsar.client.api.SchemaSerializationException;
+import org.apache.pulsar.client.api.schema.SchemaReader;
+import org.apache.pulsar.client.impl.schema.reader.AbstractMultiVersionReader;
+import org.apache.pulsar.client.impl.schema.util.SchemaUtil;
+import org.apache.pulsar.common.protocol.schema.BytesSchemaVersion;
+import org.apache.pulsar.common.schema.SchemaInfo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * AVRO reader for generated {@link org.apache.avro.specific.SpecificRecord} classes. Uses specific datum readers,
+ * which set fields through generated code instead of reflection, and reuses decoders per thread. Messages written with
+ * older schema versions are resolved against the class schema.
+ *
+ * @param <T> generated AVRO class
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+public final class AvroSpecificReader<T> extends AbstractMultiVersionReader<T> {
+
+    private static final ThreadLocal<BinaryDecoder> DECODERS = new ThreadLocal<>();
+
+    private final Schema schema;
+    private final SpecificData data;
+
+    /**
+     * @param schema schema of the generated class
+     * @param data   model of the generated class
+     */
+    public AvroSpecificReader(final Schema schema, final SpecificData data) {
+        super(new VersionReader<>(schema, schema, data));
+        this.schema = schema;
+        this.data = data;
+    }
+
+    @Override
+    protected SchemaReader<T> loadReader(final BytesSchemaVersion schemaVersion) {
+        final SchemaInfo schemaInfo = getSchemaInfoByVersion(schemaVersion.get());
+        if (null == schemaInfo) {
+            return providerSchemaReader;
+        }
+        final Schema writerSchema = SchemaUtil.parseAvroSchema(new String(schemaInfo.getSchema(), StandardCharsets.UTF_8));
+        return new VersionReader<>(writerSchema, schema, data);
+    }
+
+    private static final class VersionReader<T> implements SchemaReader<T> {
+        private final SpecificDatumReader<T> reader;
+
+        private VersionReader(final Schema writerSchema, final Schema readerSchema, final SpecificData data) {
+            this.reader = new SpecificDatumReader<>(writerSchema, readerSchema, data);
+        }
+
+        @Override
+        public T read(final byte[] bytes, final int offset, final int length) {
+            final BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(bytes, offset, length, DECODERS.get());
+            DECODERS.set(decoder);
+            try {
+                return reader.read(null, decoder);
+            } catch (IOException ex) {
+                throw new SchemaSerializationException(ex);
+            }
+        }
+
+        @Override
+        public T read(final InputStream inputStream) {
+            try {
+                return reader.read(null, DecoderFactory.get().binaryDecoder(inputStream, null));
+            } catch (IOException ex) {
+                throw new SchemaSerializationException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.schemas.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.pulsar.client.api.SchemaSerializationException;
+import org.apache.pulsar.client.api.schema.SchemaWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * AVRO writer for generated {@link org.apache.avro.specific.SpecificRecord} classes. Uses specific datum writers,
+ * which read fields through generated code instead of reflection, and reuses encoders and buffers per thread.
+ *
+ * @param <T> generated AVRO class
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+public final class AvroSpecificWriter<T> implements SchemaWriter<T> {
+
+    /**
+     * Buffers larger than this are not kept for reuse so a single huge message doesn't pin memory per thread.
+     */
+    private static final int MAX_RETAINED_BUFFER = 1024 * 1024;
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFERS = ThreadLocal.withInitial(() -> new ByteArrayOutputStream(512));
+    private static final ThreadLocal<BinaryEncoder> ENCODERS = new ThreadLocal<>();
+
+    private final SpecificDatumWriter<T> writer;
+
+    /**
+     * @param schema schema of the generated class
+     * @param data   model of the generated class
+     */
+    public AvroSpecificWriter(final Schema schema, final SpecificData data) {
+        this.writer = new SpecificDatumWriter<>(schema, data);
+    }
+
+    @Override
+    public byte[] write(final T message) {
+        final ByteArrayOutputStream buffer = BUFFERS.get();
+        buffer.reset();
+        final BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(buffer, ENCODERS.get());
+        ENCODERS.set(encoder);
+        try {
+            writer.write(message, encoder);
+            encoder.flush();
+            return buffer.toByteArray();
+        } catch (IOException ex) {
+            throw new SchemaSerializationException(ex);
+        } finally {
+            if (buffer.size() > MAX_RETAINED_BUFFER) {
+                BUFFERS.remove();
+            }
+        }
+    }
+}
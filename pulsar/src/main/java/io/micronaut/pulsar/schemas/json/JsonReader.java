@@ -17,12 +17,13 @@ package io.micronaut.pulsar.schemas.json;
 
 import io.micronaut.core.type.Argument;
 import io.micronaut.json.JsonMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import org.apache.pulsar.client.api.SchemaSerializationException;
 import org.apache.pulsar.client.api.schema.SchemaReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -36,7 +37,7 @@ import java.io.InputStream;
 public final class JsonReader<T> implements SchemaReader<T> {
     private static final Logger LOG = LoggerFactory.getLogger(JsonReader.class);
 
-    private final Class<T> pojo;
+    private final Argument<T> pojo;
     private final JsonMapper jsonMapper;
 
     /**
@@ -45,14 +46,36 @@ public final class JsonReader<T> implements SchemaReader<T> {
      * @since 1.1.0
      */
     public JsonReader(JsonMapper jsonMapper, Class<T> pojo) {
-        this.pojo = pojo;
+        this.pojo = Argument.of(pojo);
         this.jsonMapper = jsonMapper;
     }
 
     @Override
     public T read(byte[] bytes, int offset, int length) {
         try {
-            return this.jsonMapper.readValue(new ByteArrayInputStream(bytes, offset, length), Argument.of(this.pojo));
+            if (0 == offset && bytes.length == length) {
+                return this.jsonMapper.readValue(bytes, this.pojo);
+            }
+            return this.jsonMapper.readValue(new SliceInputStream(bytes, offset, length), this.pojo);
+        } catch (IOException ex) {
+            throw new SchemaSerializationException(ex);
+        }
+    }
+
+    /**
+     * Read directly from heap backed buffer without copying its readable bytes; other buffers are streamed.
+     *
+     * @param buffer message payload
+     * @return deserialized message
+     * @since 1.3.0
+     */
+    public T read(ByteBuf buffer) {
+        if (buffer.hasArray()) {
+            return read(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), buffer.readableBytes());
+        }
+        try {
+            // duplicate keeps reader index of the caller buffer intact
+            return this.jsonMapper.readValue(new ByteBufInputStream(buffer.duplicate()), this.pojo);
         } catch (IOException ex) {
             throw new SchemaSerializationException(ex);
         }
@@ -62,7 +85,7 @@ public final class JsonReader<T> implements SchemaReader<T> {
     public T read(InputStream inputStream) {
         final T value;
         try {
-            value = this.jsonMapper.readValue(inputStream, Argument.of(this.pojo));
+            value = this.jsonMapper.readValue(inputStream, this.pojo);
             try {
                 inputStream.close();
             } catch (IOException closeException) {
@@ -80,4 +103,40 @@ public final class JsonReader<T> implements SchemaReader<T> {
         // can't use try with resource since resource is passed
         return value;
     }
+
+    /**
+     * Unsynchronized view over part of an array, unlike {@link java.io.ByteArrayInputStream}.
+     */
+    private static final class SliceInputStream extends InputStream {
+        private final byte[] bytes;
+        private final int end;
+        private int position;
+
+        private SliceInputStream(final byte[] bytes, final int offset, final int length) {
+            this.bytes = bytes;
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        @Override
+        public int read() {
+            return position < end ? bytes[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] target, final int offset, final int length) {
+            if (position >= end) {
+                return -1;
+            }
+            final int count = Math.min(length, end - position);
+            System.arraycopy(bytes, position, target, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return end - position;
+        }
+    }
 }
@@ -15,15 +15,24 @@
  */
 package io.micronaut.pulsar.schemas.json;
 
+import io.micronaut.context.BeanProvider;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.json.JsonMapper;
 import io.micronaut.pulsar.schemas.JsonSchema;
 import io.micronaut.pulsar.schemas.SchemaResolver;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.serde.annotation.Serdeable;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.apache.pulsar.client.api.Schema;
 
 /**
- * JSON schema resolver.
+ * JSON schema resolver. Types annotated with {@link Serdeable} use Micronaut Serialization mapper, if one is available,
+ * which relies on serializers generated at compile time instead of reflection; other types use default
+ * {@link JsonMapper}.
  *
  * @author Haris Secic
  * @since 1.1.0
@@ -33,13 +42,36 @@ import org.apache.pulsar.client.api.Schema;
 public class JsonSchemaResolver implements SchemaResolver {
 
     private final JsonMapper mapper;
+    @Nullable
+    private final BeanProvider<ObjectMapper> serdeMapper;
 
     public JsonSchemaResolver(JsonMapper mapper) {
+        this(mapper, null);
+    }
+
+    /**
+     * @param mapper      default JSON mapper
+     * @param serdeMapper Micronaut Serialization mapper for {@link Serdeable} types
+     * @since 1.3.0
+     */
+    @Inject
+    public JsonSchemaResolver(JsonMapper mapper, @Nullable BeanProvider<ObjectMapper> serdeMapper) {
         this.mapper = mapper;
+        this.serdeMapper = serdeMapper;
     }
 
     @Override
     public <T> Schema<T> forArgument(Class<T> pojo) {
+        if (null != serdeMapper && !(mapper instanceof ObjectMapper) && isSerdeable(pojo) && serdeMapper.isPresent()) {
+            return JsonSchema.of(pojo, serdeMapper.get());
+        }
         return JsonSchema.of(pojo, mapper);
     }
+
+    private static boolean isSerdeable(Class<?> pojo) {
+        return BeanIntrospector.SHARED.findIntrospection(pojo)
+            .map(BeanIntrospection::getAnnotationMetadata)
+            .filter(x -> x.hasStereotype(Serdeable.Serializable.class) && x.hasStereotype(Serdeable.Deserializable.class))
+            .isPresent();
+    }
 }
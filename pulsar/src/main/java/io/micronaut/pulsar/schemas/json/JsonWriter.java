@@ -15,11 +15,15 @@
  */
 package io.micronaut.pulsar.schemas.json;
 
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
 import io.micronaut.json.JsonMapper;
 import org.apache.pulsar.client.api.SchemaSerializationException;
 import org.apache.pulsar.client.api.schema.SchemaWriter;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
 
 /**
  * JSON Schema Writer to allow using {@link JsonMapper} from Micronaut instead of shaded one in Pulsar library.
@@ -30,7 +34,15 @@ import java.io.IOException;
  */
 public final class JsonWriter<T> implements SchemaWriter<T> {
 
+    /**
+     * Buffers larger than this are not kept for reuse so a single huge message doesn't pin memory per thread.
+     */
+    private static final int MAX_RETAINED_BUFFER = 1024 * 1024;
+    private static final ThreadLocal<ReusableOutputStream> BUFFERS = ThreadLocal.withInitial(ReusableOutputStream::new);
+
     private final JsonMapper mapper;
+    @Nullable
+    private final Argument<T> pojo;
 
     /**
      * @param mapper new json mapper
@@ -38,14 +50,81 @@ public final class JsonWriter<T> implements SchemaWriter<T> {
      */
     public JsonWriter(JsonMapper mapper) {
         this.mapper = mapper;
+        this.pojo = null;
+    }
+
+    /**
+     * @param mapper new json mapper
+     * @param pojo   The pojo type to write
+     * @since 1.3.0
+     */
+    public JsonWriter(JsonMapper mapper, Class<T> pojo) {
+        this.mapper = mapper;
+        this.pojo = Argument.of(pojo);
     }
 
+    /**
+     * Serialize into per thread buffer reused across messages; only the final array handed to Pulsar is allocated.
+     *
+     * @param message message to serialize
+     * @return JSON bytes
+     */
     @Override
     public byte[] write(T message) {
+        final ReusableOutputStream buffer = BUFFERS.get();
+        buffer.reset();
         try {
-            return mapper.writeValueAsBytes(message);
+            if (null == pojo) {
+                mapper.writeValue(buffer, message);
+            } else {
+                mapper.writeValue(buffer, pojo, message);
+            }
+            return buffer.toByteArray();
         } catch (IOException e) {
             throw new SchemaSerializationException(e);
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFERS.remove();
+            }
+        }
+    }
+
+    /**
+     * Unsynchronized growable buffer, unlike {@link java.io.ByteArrayOutputStream}.
+     */
+    private static final class ReusableOutputStream extends OutputStream {
+        private byte[] bytes = new byte[512];
+        private int size;
+
+        @Override
+        public void write(final int b) {
+            ensureCapacity(size + 1);
+            bytes[size++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] source, final int offset, final int length) {
+            ensureCapacity(size + length);
+            System.arraycopy(source, offset, bytes, size, length);
+            size += length;
+        }
+
+        private void ensureCapacity(final int required) {
+            if (required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length << 1));
+            }
+        }
+
+        private void reset() {
+            size = 0;
+        }
+
+        private int capacity() {
+            return bytes.length;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
         }
     }
 }
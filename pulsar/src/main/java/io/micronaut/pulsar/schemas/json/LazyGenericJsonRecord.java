@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.schemas.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micronaut.core.annotation.Internal;
+import org.apache.pulsar.client.api.SchemaSerializationException;
+import org.apache.pulsar.client.api.schema.Field;
+import org.apache.pulsar.client.api.schema.GenericRecord;
+import org.apache.pulsar.client.impl.schema.generic.GenericJsonRecord;
+import org.apache.pulsar.common.schema.SchemaInfo;
+import org.apache.pulsar.common.schema.SchemaType;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON {@link GenericRecord} which parses only fields that are asked for. Each requested field is found by streaming
+ * over top level fields of the payload, skipping others without building them, and is then converted the same way
+ * {@link GenericJsonRecord} does. Whole payload is parsed only for {@link #getNativeObject()}.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Internal
+public final class LazyGenericJsonRecord implements GenericRecord {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final byte[] payload;
+    private final byte[] schemaVersion;
+    private final List<Field> fields;
+    private final SchemaInfo schemaInfo;
+    private final Map<String, Object> values = new HashMap<>(4);
+    private volatile GenericJsonRecord record;
+
+    public LazyGenericJsonRecord(final byte[] payload,
+                                 final byte[] schemaVersion,
+                                 final List<Field> fields,
+                                 final SchemaInfo schemaInfo) {
+        this.payload = payload;
+        this.schemaVersion = schemaVersion;
+        this.fields = fields;
+        this.schemaInfo = schemaInfo;
+    }
+
+    @Override
+    public byte[] getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    @Override
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    @Override
+    public Object getField(final String fieldName) {
+        final GenericJsonRecord parsed = record;
+        if (null != parsed) {
+            return parsed.getField(fieldName);
+        }
+        synchronized (values) {
+            if (!values.containsKey(fieldName)) {
+                values.put(fieldName, readField(fieldName));
+            }
+            return values.get(fieldName);
+        }
+    }
+
+    @Override
+    public SchemaType getSchemaType() {
+        return SchemaType.JSON;
+    }
+
+    @Override
+    public Object getNativeObject() {
+        return parsed().getJsonNode();
+    }
+
+    private Object readField(final String fieldName) {
+        try (JsonParser parser = MAPPER.getFactory().createParser(payload)) {
+            if (JsonToken.START_OBJECT != parser.nextToken()) {
+                return parsed().getField(fieldName);
+            }
+            while (JsonToken.FIELD_NAME == parser.nextToken()) {
+                final String name = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals(name)) {
+                    final ObjectNode holder = MAPPER.createObjectNode();
+                    holder.set(fieldName, parser.readValueAsTree());
+                    return new GenericJsonRecord(schemaVersion, fields, holder, schemaInfo).getField(fieldName);
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (final IOException ex) {
+            throw new SchemaSerializationException(ex);
+        }
+    }
+
+    private GenericJsonRecord parsed() {
+        GenericJsonRecord parsed = record;
+        if (null == parsed) {
+            try {
+                final JsonNode node = MAPPER.readTree(payload);
+                parsed = new GenericJsonRecord(schemaVersion, fields, node, schemaInfo);
+            } catch (final IOException ex) {
+                throw new SchemaSerializationException(ex);
+            }
+            record = parsed;
+        }
+        return parsed;
+    }
+}
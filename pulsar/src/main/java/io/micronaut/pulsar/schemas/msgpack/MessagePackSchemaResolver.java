@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.schemas.msgpack;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.jackson.JacksonConfiguration;
+import io.micronaut.jackson.ObjectMapperFactory;
+import io.micronaut.pulsar.schemas.JacksonBinarySchema;
+import io.micronaut.pulsar.schemas.SchemaResolver;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.apache.pulsar.client.api.Schema;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * MessagePack schema resolver. Mapper is configured the same way as the JSON one, with the same modules and features, so
+ * POJOs map identically in both formats.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Singleton
+@Named(SchemaResolver.MSGPACK_SCHEMA_NAME)
+@Requires(classes = {MessagePackFactory.class, ObjectMapperFactory.class})
+public final class MessagePackSchemaResolver implements SchemaResolver {
+
+    private final Supplier<ObjectMapper> mapper;
+    private final Map<Class<?>, Schema<?>> schemas = new ConcurrentHashMap<>();
+
+    public MessagePackSchemaResolver(final ObjectMapperFactory objectMapperFactory, final JacksonConfiguration jacksonConfiguration) {
+        this.mapper = SupplierUtil.memoized(() ->
+            objectMapperFactory.objectMapper(jacksonConfiguration, new MessagePackFactory()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Schema<T> forArgument(final Class<T> pojo) {
+        return (Schema<T>) schemas.computeIfAbsent(pojo, x -> new JacksonBinarySchema<>(mapper.get(), pojo));
+    }
+}
@@ -15,15 +15,23 @@
  */
 package io.micronaut.pulsar.schemas.protobuf;
 
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 import io.micronaut.protobuf.codec.ProtobufferCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import org.apache.pulsar.client.api.SchemaSerializationException;
 import org.apache.pulsar.client.api.schema.SchemaReader;
 
 import java.io.InputStream;
 import java.util.Arrays;
 
 /**
- * Protobuf Schema Reader to allow using {@link ProtobufferCodec} from Micronaut.
+ * Protobuf Schema Reader to allow using {@link ProtobufferCodec} from Micronaut. Messages are parsed by the parser of
+ * the message type, looked up once, directly from the given array slice or buffer without copying.
  *
  * @param <T> POJO type to process.
  * @author Haris Secic
@@ -33,18 +41,28 @@ public class ProtobufReader<T> implements SchemaReader<T> {
 
     private final ProtobufferCodec codec;
     private final Argument<T> type;
+    @Nullable
+    private final Parser<T> parser;
 
     public ProtobufReader(final ProtobufferCodec codec, final Argument<T> type) {
         this.codec = codec;
         this.type = type;
+        this.parser = parser(codec, type.getType());
     }
 
     @Override
     public T read(byte[] bytes, int offset, int length) {
+        if (null != parser) {
+            try {
+                return parser.parseFrom(bytes, offset, length, codec.getExtensionRegistry());
+            } catch (InvalidProtocolBufferException ex) {
+                throw new SchemaSerializationException(ex);
+            }
+        }
         if (0 == offset && bytes.length == length) {
             return codec.decode(type, bytes);
         }
-        final byte[] copy = Arrays.copyOfRange(bytes, offset, length);
+        final byte[] copy = Arrays.copyOfRange(bytes, offset, offset + length);
         return codec.decode(type, copy);
     }
 
@@ -52,4 +70,38 @@ public class ProtobufReader<T> implements SchemaReader<T> {
     public T read(InputStream inputStream) {
         return codec.decode(type, inputStream);
     }
+
+    /**
+     * Parse heap buffers from their backing array and single direct buffers through their NIO view; composite ones
+     * are streamed.
+     *
+     * @param buffer message payload
+     * @return parsed message
+     * @since 1.3.0
+     */
+    public T read(ByteBuf buffer) {
+        if (buffer.hasArray()) {
+            return read(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), buffer.readableBytes());
+        }
+        if (null != parser && 1 == buffer.nioBufferCount()) {
+            try {
+                return parser.parseFrom(buffer.nioBuffer(), codec.getExtensionRegistry());
+            } catch (InvalidProtocolBufferException ex) {
+                throw new SchemaSerializationException(ex);
+            }
+        }
+        // duplicate keeps reader index of the caller buffer intact
+        return read(new ByteBufInputStream(buffer.duplicate()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private static <T> Parser<T> parser(final ProtobufferCodec codec, final Class<T> type) {
+        if (!Message.class.isAssignableFrom(type)) {
+            return null;
+        }
+        return codec.getMessageBuilder((Class<? extends Message>) type)
+            .map(x -> (Parser<T>) x.getDefaultInstanceForType().getParserForType())
+            .orElse(null);
+    }
 }
@@ -15,9 +15,14 @@
  */
 package io.micronaut.pulsar.schemas.protobuf;
 
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
 import io.micronaut.protobuf.codec.ProtobufferCodec;
+import org.apache.pulsar.client.api.SchemaSerializationException;
 import org.apache.pulsar.client.api.schema.SchemaWriter;
 
+import java.io.IOException;
+
 /**
  * Protobuf Schema Writer to allow using {@link ProtobufferCodec} from Micronaut.
  *
@@ -33,9 +38,27 @@ public final class ProtobufWriter<T> implements SchemaWriter<T> {
         this.codec = codec;
     }
 
+    /**
+     * Protobuf messages are written directly into an array of their exact serialized size.
+     *
+     * @param message message to serialize
+     * @return serialized message
+     */
     @Override
     public byte[] write(Object message) {
-        return codec.encode(message);
+        if (!(message instanceof MessageLite)) {
+            return codec.encode(message);
+        }
+        final MessageLite protobuf = (MessageLite) message;
+        final byte[] bytes = new byte[protobuf.getSerializedSize()];
+        final CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        try {
+            protobuf.writeTo(output);
+            output.checkNoSpaceLeft();
+        } catch (IOException ex) {
+            throw new SchemaSerializationException(ex);
+        }
+        return bytes;
     }
 
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.schemas.zstd;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.io.ResourceResolver;
+import io.micronaut.pulsar.config.PulsarZstdConfiguration;
+import io.micronaut.pulsar.config.PulsarZstdDictionaryConfiguration;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.apache.pulsar.client.api.Schema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds Zstandard dictionaries by name, for producers, and by dictionary id, for consumers. Dictionary id is written
+ * into each compressed frame thus consumers pick the right dictionary even after producers switch to a newly trained
+ * one under the same name, as long as the previous one stays registered.
+ * <p>
+ * Dictionaries are loaded from {@link PulsarZstdDictionaryConfiguration} on startup and can be added at runtime with
+ * {@link #register(String, byte[], int)} or trained from sampled messages with
+ * {@link #train(String, Collection, int, int)}.
+ *
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Singleton
+@Requires(classes = Zstd.class)
+public final class ZstdDictionaryRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ZstdDictionaryRegistry.class);
+
+    private final Map<String, ZstdDictCompress> compressors = new ConcurrentHashMap<>();
+    private final Map<Long, ZstdDictDecompress> decompressors = new ConcurrentHashMap<>();
+    private final int maxDecompressedSize;
+
+    public ZstdDictionaryRegistry(final List<PulsarZstdDictionaryConfiguration> dictionaries,
+                                  final ResourceResolver resourceResolver,
+                                  final PulsarZstdConfiguration configuration) {
+        this.maxDecompressedSize = configuration.getMaxDecompressedSize();
+        for (final PulsarZstdDictionaryConfiguration x : dictionaries) {
+            if (null == x.getPath()) {
+                throw new ConfigurationException("Missing path of Zstandard dictionary " + x.getName());
+            }
+            final InputStream stream = resourceResolver.getResourceAsStream(x.getPath())
+                .orElseThrow(() -> new ConfigurationException("Zstandard dictionary not found: " + x.getPath()));
+            try {
+                register(x.getName(), readAll(stream), x.getLevel());
+            } catch (final IOException ex) {
+                throw new ConfigurationException("Failed to read Zstandard dictionary " + x.getPath(), ex);
+            }
+        }
+    }
+
+    /**
+     * Make dictionary available to consumers and, under given name, to producers. Registering another dictionary under
+     * the same name switches producers to it while consumers keep decompressing messages made with the previous one.
+     *
+     * @param name       dictionary name referenced by annotations
+     * @param dictionary dictionary content
+     * @param level      compression level
+     * @return dictionary id
+     */
+    public long register(final String name, final byte[] dictionary, final int level) {
+        final long id = Zstd.getDictIdFromDict(dictionary);
+        if (0 == id) {
+            throw new IllegalArgumentException("Not a Zstandard dictionary: " + name);
+        }
+        decompressors.computeIfAbsent(id, x -> new ZstdDictDecompress(dictionary));
+        final ZstdDictCompress replaced = compressors.put(name, new ZstdDictCompress(dictionary, level));
+        if (null != replaced) {
+            closeReplaced(name, replaced);
+        }
+        LOG.debug("Registered Zstandard dictionary {} with id {}", name, id);
+        return id;
+    }
+
+    /**
+     * Train a dictionary from sample message payloads, as produced by schema, and register it.
+     *
+     * @param name           dictionary name referenced by annotations
+     * @param samples        sample payloads; a few thousand typically suffice
+     * @param dictionarySize maximal dictionary size in bytes
+     * @param level          compression level
+     * @return dictionary id
+     */
+    public long train(final String name, final Collection<byte[]> samples, final int dictionarySize, final int level) {
+        final int total = samples.stream().mapToInt(x -> x.length).sum();
+        final ZstdDictTrainer trainer = new ZstdDictTrainer(total, dictionarySize);
+        samples.forEach(trainer::addSample);
+        return register(name, trainer.trainSamples(), level);
+    }
+
+    /**
+     * @param name dictionary name
+     * @return compression dictionary registered under given name
+     */
+    public Optional<ZstdDictCompress> getCompressor(final String name) {
+        return Optional.ofNullable(compressors.get(name));
+    }
+
+    /**
+     * @param id dictionary id read from compressed frame
+     * @return decompression dictionary with given id
+     */
+    public Optional<ZstdDictDecompress> getDecompressor(final long id) {
+        return Optional.ofNullable(decompressors.get(id));
+    }
+
+    /**
+     * @return maximum size in bytes of a decompressed message payload
+     */
+    public int getMaxDecompressedSize() {
+        return maxDecompressedSize;
+    }
+
+    /**
+     * @param schema message schema
+     * @param name   dictionary name used for compression
+     * @param <T>    message type
+     * @return schema compressing payloads of given one
+     */
+    public <T> Schema<T> compressed(final Schema<T> schema, final String name) {
+        return new ZstdDictionarySchema<>(schema, name, this);
+    }
+
+    @PreDestroy
+    void close() {
+        compressors.values().forEach(ZstdDictCompress::close);
+        decompressors.values().forEach(ZstdDictDecompress::close);
+        compressors.clear();
+        decompressors.clear();
+    }
+
+    private static void closeReplaced(final String name, final ZstdDictCompress replaced) {
+        try {
+            replaced.close();
+        } catch (final IllegalStateException ex) {
+            // producer still compressing with it; native memory is then released once it's garbage collected
+            LOG.debug("Replaced Zstandard dictionary {} is in use and can't be closed now", name);
+        }
+    }
+
+    private static byte[] readAll(final InputStream stream) throws IOException {
+        try (InputStream in = stream; ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
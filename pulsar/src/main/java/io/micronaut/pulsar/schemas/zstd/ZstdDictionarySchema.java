@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.schemas.zstd;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdException;
+import com.github.luben.zstd.ZstdInputStream;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.api.SchemaSerializationException;
+import org.apache.pulsar.client.api.schema.SchemaInfoProvider;
+import org.apache.pulsar.client.impl.schema.AbstractSchema;
+import org.apache.pulsar.common.schema.SchemaInfo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Compresses payloads encoded by another schema with a Zstandard dictionary. Dictionaries suit small messages which
+ * batch compression barely shrinks since each message shares most of its structure with others.
+ * <p>
+ * Id of the dictionary travels in the Zstandard frame header. Payloads without Zstandard frame magic are passed to the
+ * wrapped schema as is thus consumers can be switched to compression before producers. Schema info is the one of the
+ * wrapped schema as broker never looks into payloads.
+ *
+ * @param <T> message type
+ * @author Haris Secic
+ * @since 1.3.0
+ */
+@Internal
+final class ZstdDictionarySchema<T> extends AbstractSchema<T> {
+
+    private static final int MAGIC = 0xFD2FB528;
+    private static final long CONTENT_SIZE_UNKNOWN = -1;
+
+    private final Schema<T> delegate;
+    private final String dictionary;
+    private final ZstdDictionaryRegistry registry;
+
+    ZstdDictionarySchema(final Schema<T> delegate, final String dictionary, final ZstdDictionaryRegistry registry) {
+        this.delegate = delegate;
+        this.dictionary = dictionary;
+        this.registry = registry;
+    }
+
+    @Override
+    public byte[] encode(final T message) {
+        final byte[] payload = delegate.encode(message);
+        try {
+            return Zstd.compress(payload, compressor());
+        } catch (final IllegalStateException ex) {
+            // dictionary was replaced and closed after it was looked up
+            return Zstd.compress(payload, compressor());
+        }
+    }
+
+    @Override
+    public T decode(final byte[] bytes) {
+        return delegate.decode(decompress(bytes));
+    }
+
+    @Override
+    public T decode(final byte[] bytes, final byte[] schemaVersion) {
+        return delegate.decode(decompress(bytes), schemaVersion);
+    }
+
+    @Override
+    public T decode(final ByteBuf byteBuf) {
+        return decode(ByteBufUtil.getBytes(byteBuf, byteBuf.readerIndex(), byteBuf.readableBytes(), false));
+    }
+
+    @Override
+    public T decode(final ByteBuf byteBuf, final byte[] schemaVersion) {
+        return decode(ByteBufUtil.getBytes(byteBuf, byteBuf.readerIndex(), byteBuf.readableBytes(), false),
+            schemaVersion);
+    }
+
+    @Override
+    public SchemaInfo getSchemaInfo() {
+        return delegate.getSchemaInfo();
+    }
+
+    @Override
+    public boolean supportSchemaVersioning() {
+        return delegate.supportSchemaVersioning();
+    }
+
+    @Override
+    public void setSchemaInfoProvider(final SchemaInfoProvider schemaInfoProvider) {
+        delegate.setSchemaInfoProvider(schemaInfoProvider);
+    }
+
+    @Override
+    public boolean requireFetchingSchemaInfo() {
+        return delegate.requireFetchingSchemaInfo();
+    }
+
+    @Override
+    public void configureSchemaInfo(final String topic, final String componentName, final SchemaInfo schemaInfo) {
+        delegate.configureSchemaInfo(topic, componentName, schemaInfo);
+    }
+
+    @Override
+    public Optional<Object> getNativeSchema() {
+        return delegate.getNativeSchema();
+    }
+
+    @Override
+    public Schema<T> clone() {
+        return new ZstdDictionarySchema<>(delegate.clone(), dictionary, registry);
+    }
+
+    private ZstdDictCompress compressor() {
+        return registry.getCompressor(dictionary)
+            .orElseThrow(() -> new SchemaSerializationException("Missing Zstandard dictionary " + dictionary));
+    }
+
+    private byte[] decompress(final byte[] bytes) {
+        if (!isFrame(bytes)) {
+            return bytes;
+        }
+        final long id = Zstd.getDictIdFromFrame(bytes);
+        final ZstdDictDecompress decompressor = 0 == id ? null : registry.getDecompressor(id)
+            .orElseThrow(() -> new SchemaSerializationException("Missing Zstandard dictionary with id " + id));
+        final long size = Zstd.getFrameContentSize(bytes);
+        if (CONTENT_SIZE_UNKNOWN == size) {
+            return decompressStream(bytes, decompressor);
+        }
+        if (size < 0) {
+            throw new SchemaSerializationException("Malformed Zstandard frame: " + Zstd.getErrorName(size));
+        }
+        if (size > registry.getMaxDecompressedSize()) {
+            throw new SchemaSerializationException(String.format(
+                "Zstandard compressed message of %d bytes exceeds maximum decompressed size of %d bytes",
+                size, registry.getMaxDecompressedSize()));
+        }
+        try {
+            if (null == decompressor) {
+                return Zstd.decompress(bytes, (int) size);
+            }
+            return Zstd.decompress(bytes, decompressor, (int) size);
+        } catch (final ZstdException ex) {
+            throw new SchemaSerializationException(ex);
+        }
+    }
+
+    /**
+     * Frames written without content size, e.g. by streaming compression of other clients, are decompressed until
+     * maximum size is reached.
+     */
+    private byte[] decompressStream(final byte[] bytes, @Nullable final ZstdDictDecompress decompressor) {
+        final int max = registry.getMaxDecompressedSize();
+        try (ZstdInputStream in = new ZstdInputStream(new ByteArrayInputStream(bytes));
+             ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(max, bytes.length * 4L))) {
+            if (null != decompressor) {
+                in.setDict(decompressor);
+            }
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (out.size() + read > max) {
+                    throw new SchemaSerializationException(String.format(
+                        "Zstandard compressed message exceeds maximum decompressed size of %d bytes", max));
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (final IOException ex) {
+            throw new SchemaSerializationException(ex);
+        }
+    }
+
+    private static boolean isFrame(final byte[] bytes) {
+        if (bytes.length < 4) {
+            return false;
+        }
+        return MAGIC == ((bytes[0] & 0xFF) | (bytes[1] & 0xFF) << 8 | (bytes[2] & 0xFF) << 16 | (bytes[3] & 0xFF) << 24);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar
+
+import io.micronaut.pulsar.schemas.AvroSpecificSchema
+import io.micronaut.pulsar.schemas.avro.AvroSpecificReader
+import io.micronaut.pulsar.schemas.avro.AvroSpecificWriter
+import org.apache.avro.Schema
+import org.apache.avro.generic.GenericData
+import org.apache.avro.generic.GenericDatumWriter
+import org.apache.avro.generic.GenericRecord
+import org.apache.avro.io.BinaryEncoder
+import org.apache.avro.io.EncoderFactory
+import org.apache.avro.specific.SpecificData
+import org.apache.pulsar.client.api.schema.SchemaInfoProvider
+import org.apache.pulsar.common.schema.SchemaInfo
+import org.apache.pulsar.common.schema.SchemaType
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CompletableFuture
+
+class AvroSpecificSchemaSpec extends Specification {
+
+    private static final Schema OLD_SCHEMA = new Schema.Parser().parse('''{
+        "type": "record",
+        "name": "AvroUser",
+        "namespace": "io.micronaut.pulsar",
+        "fields": [{"name": "name", "type": "string"}]
+    }''')
+
+    void "test generated class round trip"() {
+        given:
+        AvroSpecificSchema<AvroUser> schema = AvroSpecificSchema.of(AvroUser)
+
+        when:
+        AvroUser decoded = schema.decode(schema.encode(new AvroUser("ann", 30)))
+
+        then:
+        SchemaType.AVRO == schema.schemaInfo.type
+        AvroUser.classSchema.toString() == new String(schema.schemaInfo.schema, StandardCharsets.UTF_8)
+        "ann" == decoded.name
+        30 == decoded.age
+    }
+
+    void "test reader and writer round trip"() {
+        given:
+        SpecificData data = SpecificData.getForClass(AvroUser)
+        AvroSpecificWriter<AvroUser> writer = new AvroSpecificWriter<>(AvroUser.classSchema, data)
+        AvroSpecificReader<AvroUser> reader = new AvroSpecificReader<>(AvroUser.classSchema, data)
+        byte[] large = writer.write(new AvroUser("x" * 2048, 1))
+
+        when:
+        AvroUser first = reader.read(writer.write(new AvroUser("ann", 30)))
+        AvroUser second = reader.read(writer.write(new AvroUser("bob", 40)))
+
+        then: "reused encoders and decoders don't leak state between messages"
+        "ann" == first.name
+        30 == first.age
+        "bob" == second.name
+        40 == second.age
+        2048 == reader.read(large).name.length()
+    }
+
+    void "test message written with older schema version is resolved"() {
+        given:
+        AvroSpecificSchema<AvroUser> schema = AvroSpecificSchema.of(AvroUser)
+        org.apache.pulsar.client.api.Schema<AvroUser> subscription = schema.clone()
+        SchemaInfo oldInfo = SchemaInfo.builder()
+                .name("users")
+                .type(SchemaType.AVRO)
+                .schema(OLD_SCHEMA.toString().getBytes(StandardCharsets.UTF_8))
+                .properties([:])
+                .build()
+        SchemaInfoProvider provider = Mock(SchemaInfoProvider)
+        subscription.schemaInfoProvider = provider
+        byte[] version = [0, 0, 0, 0, 0, 0, 0, 1] as byte[]
+        byte[] oldBytes = writeOld("bob")
+
+        when:
+        AvroUser first = subscription.decode(oldBytes, version)
+        AvroUser second = subscription.decode(oldBytes, version)
+
+        then: "missing field gets its default and writer schema is loaded once per version"
+        1 * provider.getSchemaByVersion(version) >> CompletableFuture.completedFuture(oldInfo)
+        _ * provider.getTopicName() >> "users"
+        "bob" == first.name
+        -1 == first.age
+        "bob" == second.name
+    }
+
+    void "test each subscription gets its own schema copy"() {
+        given:
+        AvroSpecificSchema<AvroUser> schema = AvroSpecificSchema.of(AvroUser)
+
+        when:
+        org.apache.pulsar.client.api.Schema<AvroUser> first = schema.clone()
+        org.apache.pulsar.client.api.Schema<AvroUser> second = schema.clone()
+
+        then:
+        AvroSpecificSchema.of(AvroUser).is(schema)
+        !first.is(schema)
+        !first.is(second)
+        first.schemaInfo == schema.schemaInfo
+        first.supportSchemaVersioning()
+    }
+
+    void "test non generated class is rejected"() {
+        when:
+        AvroSpecificSchema.of(String)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    private static byte[] writeOld(String name) {
+        GenericRecord record = new GenericData.Record(OLD_SCHEMA)
+        record.put("name", name)
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null)
+        new GenericDatumWriter<GenericRecord>(OLD_SCHEMA).write(record, encoder)
+        encoder.flush()
+        return out.toByteArray()
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar
+
+import io.micronaut.pulsar.config.PulsarReaderCheckpointConfiguration
+import io.micronaut.scheduling.TaskScheduler
+import org.apache.pulsar.client.impl.MessageIdImpl
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.nio.file.StandardOpenOption
+import java.util.concurrent.ScheduledFuture
+
+class FileReaderCheckpointStoreSpec extends Specification {
+
+    Path directory = Files.createTempDirectory("reader-checkpoints")
+
+    void cleanup() {
+        directory.toFile().deleteDir()
+    }
+
+    void "test positions survive restart"() {
+        given:
+        PulsarReaderCheckpointConfiguration configuration = configuration()
+        FileReaderCheckpointStore store = new FileReaderCheckpointStore(configuration, scheduler())
+
+        when:
+        store.update("reader-a", new MessageIdImpl(1, 1, -1))
+        store.update("reader-a", new MessageIdImpl(1, 2, -1))
+        store.update("reader-b", new MessageIdImpl(3, 4, 0))
+        store.close()
+        FileReaderCheckpointStore restarted = new FileReaderCheckpointStore(configuration, scheduler())
+
+        then:
+        new MessageIdImpl(1, 2, -1) == restarted.load("reader-a").get()
+        new MessageIdImpl(3, 4, 0) == restarted.load("reader-b").get()
+        !restarted.load("reader-c").isPresent()
+
+        cleanup:
+        restarted?.close()
+    }
+
+    void "test incomplete record at the end of the file is discarded"() {
+        given:
+        PulsarReaderCheckpointConfiguration configuration = configuration()
+        FileReaderCheckpointStore store = new FileReaderCheckpointStore(configuration, scheduler())
+        store.update("reader-a", new MessageIdImpl(1, 1, -1))
+        store.close()
+        long size = Files.size(Paths.get(configuration.path))
+        Files.write(Paths.get(configuration.path), [0, 0, 0, 42, 1, 2] as byte[], StandardOpenOption.APPEND)
+
+        when:
+        FileReaderCheckpointStore restarted = new FileReaderCheckpointStore(configuration, scheduler())
+
+        then:
+        new MessageIdImpl(1, 1, -1) == restarted.load("reader-a").get()
+        size == Files.size(Paths.get(configuration.path))
+
+        cleanup:
+        restarted?.close()
+    }
+
+    private PulsarReaderCheckpointConfiguration configuration() {
+        PulsarReaderCheckpointConfiguration configuration = new PulsarReaderCheckpointConfiguration()
+        configuration.enabled = true
+        configuration.path = directory.resolve("checkpoints.log").toString()
+        return configuration
+    }
+
+    private TaskScheduler scheduler() {
+        return Stub(TaskScheduler) {
+            scheduleAtFixedRate(_, _, _) >> Stub(ScheduledFuture)
+        }
+    }
+}
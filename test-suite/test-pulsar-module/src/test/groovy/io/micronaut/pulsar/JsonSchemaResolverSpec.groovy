@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar
+
+import io.micronaut.context.BeanProvider
+import io.micronaut.json.JsonMapper
+import io.micronaut.pulsar.schemas.json.JsonSchemaResolver
+import io.micronaut.serde.ObjectMapper
+import io.micronaut.serde.annotation.Serdeable
+import spock.lang.Specification
+
+class JsonSchemaResolverSpec extends Specification {
+
+    private static final byte[] PAYLOAD = '{"text":"value"}'.bytes
+
+    void "test serdeable type uses serde mapper"() {
+        given:
+        JsonMapper defaultMapper = Mock(JsonMapper)
+        ObjectMapper serdeMapper = Mock(ObjectMapper)
+        BeanProvider<ObjectMapper> provider = Stub(BeanProvider) {
+            isPresent() >> true
+            get() >> serdeMapper
+        }
+        JsonSchemaResolver resolver = new JsonSchemaResolver(defaultMapper, provider)
+
+        when:
+        SerdeableMessage message = resolver.forArgument(SerdeableMessage).decode(PAYLOAD)
+
+        then:
+        1 * serdeMapper.readValue(PAYLOAD, _) >> new SerdeableMessage(text: "value")
+        0 * defaultMapper.readValue(*_)
+        "value" == message.text
+    }
+
+    void "test non serdeable type keeps default mapper"() {
+        given:
+        JsonMapper defaultMapper = Mock(JsonMapper)
+        ObjectMapper serdeMapper = Mock(ObjectMapper)
+        BeanProvider<ObjectMapper> provider = Stub(BeanProvider) {
+            isPresent() >> true
+            get() >> serdeMapper
+        }
+        JsonSchemaResolver resolver = new JsonSchemaResolver(defaultMapper, provider)
+
+        when:
+        PlainMessage message = resolver.forArgument(PlainMessage).decode(PAYLOAD)
+
+        then:
+        1 * defaultMapper.readValue(PAYLOAD, _) >> new PlainMessage(text: "value")
+        0 * serdeMapper.readValue(*_)
+        "value" == message.text
+    }
+
+    void "test default mapper already backed by serde is kept"() {
+        given:
+        ObjectMapper defaultMapper = Mock(ObjectMapper)
+        BeanProvider<ObjectMapper> provider = Mock(BeanProvider)
+        JsonSchemaResolver resolver = new JsonSchemaResolver(defaultMapper, provider)
+
+        when:
+        SerdeableMessage message = resolver.forArgument(SerdeableMessage).decode(PAYLOAD)
+
+        then:
+        0 * provider.isPresent()
+        0 * provider.get()
+        1 * defaultMapper.readValue(PAYLOAD, _) >> new SerdeableMessage(text: "value")
+        "value" == message.text
+    }
+
+    void "test serdeable type keeps default mapper without serde mapper bean"() {
+        given:
+        JsonMapper defaultMapper = Mock(JsonMapper)
+        BeanProvider<ObjectMapper> provider = Stub(BeanProvider) {
+            isPresent() >> false
+        }
+        JsonSchemaResolver resolver = new JsonSchemaResolver(defaultMapper, provider)
+
+        when:
+        SerdeableMessage message = resolver.forArgument(SerdeableMessage).decode(PAYLOAD)
+
+        then:
+        1 * defaultMapper.readValue(PAYLOAD, _) >> new SerdeableMessage(text: "value")
+        "value" == message.text
+    }
+
+    @Serdeable
+    static class SerdeableMessage {
+        String text
+    }
+
+    static class PlainMessage {
+        String text
+    }
+}
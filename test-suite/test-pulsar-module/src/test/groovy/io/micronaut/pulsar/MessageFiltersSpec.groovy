@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar
+
+import io.micronaut.core.annotation.AnnotationValue
+import io.micronaut.messaging.exceptions.MessageListenerException
+import io.micronaut.pulsar.annotation.PulsarFilter
+import io.micronaut.pulsar.processor.MessageFilters
+import org.apache.pulsar.client.api.Message
+import spock.lang.Specification
+
+import java.util.function.Predicate
+
+class MessageFiltersSpec extends Specification {
+
+    void "test filters over properties and key are combined"() {
+        given:
+        Predicate<Message<?>> filter = MessageFilters.compile([
+                AnnotationValue.builder(PulsarFilter).member("property", "type").value("order").build(),
+                AnnotationValue.builder(PulsarFilter).member("property", "region").member("pattern", "eu-.*").build(),
+                AnnotationValue.builder(PulsarFilter).member("keyPrefix", "customer-").build()
+        ], "test")
+
+        expect:
+        filter.test(message("order", "eu-west", "customer-1"))
+        !filter.test(message("invoice", "eu-west", "customer-1"))
+        !filter.test(message("order", "us-east", "customer-1"))
+        !filter.test(message("order", "eu-west", "supplier-1"))
+        !filter.test(message("order", null, "customer-1"))
+        !filter.test(message("order", "eu-west", null))
+    }
+
+    void "test no filters result in no predicate"() {
+        expect:
+        null == MessageFilters.compile([], "test")
+    }
+
+    void "test filter without criteria is rejected"() {
+        when:
+        MessageFilters.compile([AnnotationValue.builder(PulsarFilter).value("order").build()], "test")
+
+        then:
+        thrown(MessageListenerException)
+    }
+
+    void "test filter with both value and pattern is rejected"() {
+        when:
+        MessageFilters.compile([AnnotationValue.builder(PulsarFilter)
+                                        .member("property", "type")
+                                        .member("pattern", "order-.*")
+                                        .value("order")
+                                        .build()], "test")
+
+        then:
+        thrown(MessageListenerException)
+    }
+
+    private Message message(String type, String region, String key) {
+        Map<String, String> properties = [type: type, region: region].findAll { it.value != null }
+        return Stub(Message) {
+            getProperty(_ as String) >> { String name -> properties[name] }
+            hasProperty(_ as String) >> { String name -> properties.containsKey(name) }
+            hasKey() >> (key != null)
+            getKey() >> key
+        }
+    }
+}
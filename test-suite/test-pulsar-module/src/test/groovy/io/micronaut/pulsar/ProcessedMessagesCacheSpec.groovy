@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar
+
+import io.micronaut.pulsar.processor.ProcessedMessagesCache
+import org.apache.pulsar.client.api.Message
+import org.apache.pulsar.client.impl.BatchMessageIdImpl
+import org.apache.pulsar.client.impl.MessageIdImpl
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class ProcessedMessagesCacheSpec extends Specification {
+
+    void "test processed message is detected as duplicate"() {
+        given:
+        ProcessedMessagesCache cache = new ProcessedMessagesCache(null, 10, TimeUnit.MINUTES.toNanos(1))
+        Message first = Stub(Message) { getMessageId() >> new MessageIdImpl(1, 1, -1) }
+        Message redelivered = Stub(Message) { getMessageId() >> new MessageIdImpl(1, 1, -1) }
+        Message other = Stub(Message) { getMessageId() >> new BatchMessageIdImpl(1, 1, -1, 2) }
+
+        expect:
+        !cache.isDuplicate(first)
+
+        when:
+        cache.markProcessed(first)
+
+        then:
+        cache.isDuplicate(redelivered)
+        !cache.isDuplicate(other)
+    }
+
+    void "test business key property is used when present"() {
+        given:
+        ProcessedMessagesCache cache = new ProcessedMessagesCache("order-id", 10, TimeUnit.MINUTES.toNanos(1))
+        Message first = Stub(Message) {
+            getMessageId() >> new MessageIdImpl(1, 1, -1)
+            getProperty("order-id") >> "order-1"
+        }
+        Message resent = Stub(Message) {
+            getMessageId() >> new MessageIdImpl(2, 7, -1)
+            getProperty("order-id") >> "order-1"
+        }
+
+        when:
+        cache.markProcessed(first)
+
+        then:
+        cache.isDuplicate(resent)
+    }
+
+    void "test oldest entries are evicted by size and time"() {
+        given:
+        ProcessedMessagesCache bySize = new ProcessedMessagesCache(null, 2, TimeUnit.MINUTES.toNanos(1))
+        ProcessedMessagesCache byTime = new ProcessedMessagesCache(null, 2, TimeUnit.MILLISECONDS.toNanos(50))
+        List<Message> messages = (1..3).collect { id -> Stub(Message) { getMessageId() >> new MessageIdImpl(id, 0, -1) } }
+
+        when:
+        messages.each { bySize.markProcessed(it) }
+        byTime.markProcessed(messages[0])
+        sleep(100)
+
+        then:
+        !bySize.isDuplicate(messages[0])
+        bySize.isDuplicate(messages[1])
+        bySize.isDuplicate(messages[2])
+        2 == bySize.size()
+        !byTime.isDuplicate(messages[0])
+        0 == byTime.size()
+    }
+}
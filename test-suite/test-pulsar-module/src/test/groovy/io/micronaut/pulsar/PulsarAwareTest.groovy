@@ -37,8 +37,11 @@ abstract class PulsarAwareTest extends Specification {
         PulsarTls.createTopic(PulsarReaderSpec.PULSAR_READER_TEST_TOPIC_METHOD_WRAPPED)
         PulsarTls.createTopic(PulsarReaderSpec.PULSAR_READER_TEST_TOPIC_METHOD_ASYNC)
         PulsarTls.createTopic(PulsarReaderSpec.PULSAR_READER_TEST_TOPIC_METHOD_ASYNC_WRAPPED)
+        PulsarTls.createTopic(PulsarReaderSpec.PULSAR_TABLE_VIEW_TEST_TOPIC)
+        PulsarTls.createPartitionedTopic(PulsarReaderSpec.PULSAR_PARTITIONED_READER_TEST_TOPIC, 3)
         PulsarTls.createTopic(PulsarSchemaSpec.PULSAR_JSON_TOPIC)
         PulsarTls.createTopic(PulsarSchemaSpec.PULSAR_PROTOBUF_TOPIC)
+        PulsarTls.createTopic(PulsarInterceptorSpec.PULSAR_INTERCEPTOR_TEST_TOPIC)
         context = ApplicationContext.run(
                 ['pulsar.service-url'                 : PulsarTls.pulsarBrokerUrl,
                  'pulsar.shutdown-on-subscriber-error': true,
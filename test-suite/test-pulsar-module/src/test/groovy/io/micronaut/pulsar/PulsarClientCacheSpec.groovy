@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar
+
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+
+class PulsarClientCacheSpec extends Specification {
+
+    void "test least recently used entry is evicted and closed"() {
+        given:
+        List<String> closed = []
+        PulsarClientCache<String> cache = new PulsarClientCache<>(2, null, { String x ->
+            closed << x
+            CompletableFuture.completedFuture(null)
+        })
+
+        when:
+        cache.putIfAbsent("a", "reader-a")
+        cache.putIfAbsent("b", "reader-b")
+        cache.get("a")
+        cache.putIfAbsent("c", "reader-c")
+
+        then:
+        closed == ["reader-b"]
+        null == cache.get("b")
+        "reader-a" == cache.get("a")
+        2 == cache.size()
+        2 == cache.hits
+        1 == cache.misses
+        1 == cache.evictions
+    }
+
+    void "test idle entries are evicted"() {
+        given:
+        List<String> closed = []
+        PulsarClientCache<String> cache = new PulsarClientCache<>(0, Duration.ofMillis(50), { String x ->
+            closed << x
+            CompletableFuture.completedFuture(null)
+        })
+
+        when:
+        cache.putIfAbsent("a", "reader-a")
+        sleep(100)
+        cache.evictIdle()
+
+        then:
+        closed == ["reader-a"]
+        0 == cache.size()
+    }
+
+    void "test concurrently added entry is kept"() {
+        given:
+        PulsarClientCache<String> cache = new PulsarClientCache<>(10, null, { CompletableFuture.completedFuture(null) })
+
+        when:
+        cache.putIfAbsent("a", "first")
+
+        then:
+        "first" == cache.putIfAbsent("a", "second")
+    }
+
+    void "test leased entries are not evicted until released"() {
+        given:
+        List<String> closed = []
+        PulsarClientCache<String> cache = new PulsarClientCache<>(1, Duration.ofMillis(50), { String x ->
+            closed << x
+            CompletableFuture.completedFuture(null)
+        })
+
+        when:
+        cache.acquireIfAbsent("a", "reader-a")
+        cache.putIfAbsent("b", "reader-b")
+        sleep(100)
+        cache.evictIdle()
+
+        then: "over the limit and idle but still in use"
+        closed == ["reader-b"]
+        "reader-a" == cache.peek("a")
+
+        when:
+        cache.release("a", "reader-a")
+        sleep(100)
+        cache.evictIdle()
+
+        then:
+        closed == ["reader-b", "reader-a"]
+        0 == cache.size()
+    }
+
+    void "test newly added entry is kept when others are leased"() {
+        given:
+        List<String> closed = []
+        PulsarClientCache<String> cache = new PulsarClientCache<>(1, null, { String x ->
+            closed << x
+            CompletableFuture.completedFuture(null)
+        })
+
+        when:
+        cache.acquireIfAbsent("a", "reader-a")
+        cache.acquireIfAbsent("b", "reader-b")
+
+        then:
+        closed.empty
+        2 == cache.size()
+
+        when: "releasing brings the cache back under the limit"
+        cache.release("a", "reader-a")
+
+        then:
+        closed == ["reader-a"]
+        1 == cache.size()
+    }
+
+    void "test peek doesn't count lookups nor change eviction order"() {
+        given:
+        List<String> closed = []
+        PulsarClientCache<String> cache = new PulsarClientCache<>(2, null, { String x ->
+            closed << x
+            CompletableFuture.completedFuture(null)
+        })
+
+        when:
+        cache.putIfAbsent("a", "reader-a")
+        cache.putIfAbsent("b", "reader-b")
+
+        then:
+        "reader-a" == cache.peek("a")
+        null == cache.peek("c")
+        0 == cache.hits
+        0 == cache.misses
+
+        when:
+        cache.putIfAbsent("c", "reader-c")
+
+        then:
+        closed == ["reader-a"]
+    }
+}
@@ -15,20 +15,34 @@
  */
 package io.micronaut.pulsar
 
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Executable
 import io.micronaut.context.annotation.Requires
+import io.micronaut.context.env.Environment
+import io.micronaut.core.type.Argument
+import io.micronaut.inject.ExecutableMethod
 import io.micronaut.messaging.annotation.MessageBody
 import io.micronaut.messaging.annotation.MessageHeader
 import io.micronaut.messaging.annotation.MessageMapping
+import io.micronaut.messaging.exceptions.MessageListenerException
 import io.micronaut.pulsar.PulsarAwareTest
 import io.micronaut.pulsar.annotation.MessageProperties
 import io.micronaut.pulsar.annotation.PulsarConsumer
+import io.micronaut.pulsar.annotation.PulsarRoute
 import io.micronaut.pulsar.annotation.PulsarSubscription
+import io.micronaut.pulsar.processor.DefaultListener
+import io.micronaut.pulsar.processor.DefaultSchemaHandler
+import io.micronaut.pulsar.processor.PulsarArgumentHandler
+import io.micronaut.pulsar.shared.PulsarTls
+import jakarta.inject.Singleton
 import org.apache.pulsar.client.api.*
 import org.apache.pulsar.client.impl.schema.StringSchema
 import reactor.core.publisher.Mono
 import spock.lang.Stepwise
 import spock.util.concurrent.BlockingVariables
 
+import java.util.function.Supplier
+
 import static java.util.concurrent.TimeUnit.SECONDS
 import static org.apache.pulsar.client.api.MessageId.latest
 
@@ -137,6 +151,160 @@ class PulsarConsumerSpec extends PulsarAwareTest {
         annotationValue.get().contains 'persistent://public/default/other.*'
     }
 
+    void "test routed methods share a single consumer"() {
+        given:
+        BlockingVariables vars = new BlockingVariables(65)
+        PulsarConsumerRouteTester routeTester = context.getBean(PulsarConsumerRouteTester)
+        routeTester.blockers = vars
+        Producer producer = context.getBean(PulsarClient)
+                .newProducer()
+                .topic(PulsarConsumerSpec.PULSAR_STATIC_TOPIC_TEST)
+                .producerName("test-producer-routes")
+                .create()
+
+        when:
+        producer.newMessage().value("order".bytes).property("kind", "order").send()
+        producer.newMessage().value("invoice".bytes).property("kind", "invoice").send()
+
+        then:
+        "order" == vars.getProperty("order")
+        "invoice" == vars.getProperty("invoice")
+        1 == context.getBean(PulsarConsumerRegistry).consumerIds.count { it.contains("routed-consumer") }
+
+        cleanup:
+        producer.close()
+    }
+
+    void "test lazy body is decoded on first get and only once"() {
+        given:
+        PulsarConsumerLazyBodyTester tester = context.getBean(PulsarConsumerLazyBodyTester)
+        ExecutableMethod<PulsarConsumerLazyBodyTester, ?> method = context
+                .getBeanDefinition(PulsarConsumerLazyBodyTester)
+                .getRequiredMethod("receive", Supplier)
+        DefaultListener listener = new DefaultListener(method, false, tester,
+                new PulsarArgumentHandler(method.arguments, method.getDescription(false)))
+        Message<String> message = Mock(Message)
+        Consumer<String> consumer = Mock(Consumer)
+
+        when:
+        listener.received(consumer, message)
+
+        then:
+        0 * message.getValue()
+        1 * consumer.acknowledgeAsync(message)
+
+        when:
+        String first = tester.body.get()
+        String second = tester.body.get()
+
+        then:
+        1 * message.getValue() >> "lazy"
+        "lazy" == first
+        "lazy" == second
+    }
+
+    void "test supplier body without type argument is rejected"() {
+        when:
+        DefaultSchemaHandler.bodyType(Argument.of(Supplier, "body"))
+
+        then:
+        MessageListenerException ex = thrown()
+        ex.message.contains("body")
+    }
+
+    void "test routes sharing a consumer must declare the same settings"() {
+        when:
+        ApplicationContext.run(['pulsar.service-url': PulsarTls.pulsarBrokerUrl,
+                                'spec.name'         : 'PulsarConsumerRouteMismatch'], Environment.TEST).close()
+
+        then:
+        Exception ex = thrown()
+        causes(ex).any { it instanceof MessageListenerException && it.message.contains("same consumer and subscription settings") }
+    }
+
+    void "test routed consumer of another bean with the same name is rejected"() {
+        when:
+        ApplicationContext.run(['pulsar.service-url': PulsarTls.pulsarBrokerUrl,
+                                'spec.name'         : 'PulsarConsumerRouteConflict'], Environment.TEST).close()
+
+        then:
+        Exception ex = thrown()
+        causes(ex).any { it instanceof MessageListenerException && it.message.contains("conflicting-routes already exists") }
+    }
+
+    private static List<Throwable> causes(Throwable ex) {
+        List<Throwable> causes = []
+        for (Throwable cause = ex; null != cause && !causes.contains(cause); cause = cause.cause) {
+            causes << cause
+        }
+        return causes
+    }
+
+    @Requires(property = 'spec.name', value = 'PulsarConsumerRouteMismatch')
+    static class PulsarConsumerRouteMismatchTester {
+
+        @PulsarRoute(value = "order")
+        @PulsarConsumer(topic = PulsarConsumerSpec.PULSAR_STATIC_TOPIC_TEST, consumerName = 'mismatched-routes',
+                subscription = 'subscriber-mismatch-a', subscribeAsync = false)
+        void order(byte[] message) {
+        }
+
+        @PulsarRoute(value = "invoice")
+        @PulsarConsumer(topic = PulsarConsumerSpec.PULSAR_STATIC_TOPIC_TEST, consumerName = 'mismatched-routes',
+                subscription = 'subscriber-mismatch-b', subscribeAsync = false)
+        void invoice(byte[] message) {
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'PulsarConsumerRouteConflict')
+    static class PulsarConsumerRouteConflictFirstTester {
+
+        @PulsarRoute(value = "order")
+        @PulsarConsumer(topic = PulsarConsumerSpec.PULSAR_STATIC_TOPIC_TEST, consumerName = 'conflicting-routes',
+                subscription = 'subscriber-conflict-a', subscriptionType = SubscriptionType.Shared, subscribeAsync = false)
+        void order(byte[] message) {
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'PulsarConsumerRouteConflict')
+    static class PulsarConsumerRouteConflictSecondTester {
+
+        @PulsarRoute(value = "invoice")
+        @PulsarConsumer(topic = PulsarConsumerSpec.PULSAR_STATIC_TOPIC_TEST, consumerName = 'conflicting-routes',
+                subscription = 'subscriber-conflict-b', subscriptionType = SubscriptionType.Shared, subscribeAsync = false)
+        void invoice(byte[] message) {
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'PulsarConsumerSpec')
+    @Singleton
+    static class PulsarConsumerLazyBodyTester {
+        Supplier<String> body
+
+        @Executable
+        void receive(@MessageBody Supplier<String> body) {
+            this.body = body
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'PulsarConsumerSpec')
+    @PulsarSubscription(subscriptionName = "subscriber-routes")
+    static class PulsarConsumerRouteTester {
+        BlockingVariables blockers
+
+        @PulsarRoute(property = "kind", value = "order")
+        @PulsarConsumer(topic = PulsarConsumerSpec.PULSAR_STATIC_TOPIC_TEST, consumerName = 'routed-consumer', subscribeAsync = false)
+        void order(byte[] message) {
+            blockers?.setProperty("order", new String(message))
+        }
+
+        @PulsarRoute(property = "kind", value = "invoice")
+        @PulsarConsumer(topic = PulsarConsumerSpec.PULSAR_STATIC_TOPIC_TEST, consumerName = 'routed-consumer', subscribeAsync = false)
+        void invoice(byte[] message) {
+            blockers?.setProperty("invoice", new String(message))
+        }
+    }
+
     @Requires(property = 'spec.name', value = 'PulsarConsumerSpec')
     @PulsarSubscription(subscriptionName = "subscriber-simple-exclusive")
     static class PulsarConsumerTopicTester {
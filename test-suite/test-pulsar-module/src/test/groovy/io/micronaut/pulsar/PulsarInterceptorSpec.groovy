@@ -0,0 +1,211 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.Order
+import io.micronaut.messaging.annotation.MessageBody
+import io.micronaut.pulsar.annotation.PulsarConsumer
+import io.micronaut.pulsar.annotation.PulsarInterceptor
+import io.micronaut.pulsar.annotation.PulsarProducer
+import io.micronaut.pulsar.annotation.PulsarProducerClient
+import io.micronaut.pulsar.annotation.PulsarSubscription
+import io.micronaut.pulsar.processor.PulsarInterceptorResolver
+import jakarta.inject.Singleton
+import org.apache.pulsar.client.api.Consumer
+import org.apache.pulsar.client.api.ConsumerInterceptor
+import org.apache.pulsar.client.api.Message
+import org.apache.pulsar.client.api.MessageId
+import org.apache.pulsar.client.api.Producer
+import org.apache.pulsar.client.api.PulsarClient
+import org.apache.pulsar.client.api.interceptor.ProducerInterceptor
+import spock.lang.Stepwise
+import spock.util.concurrent.BlockingVariables
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+@Stepwise
+class PulsarInterceptorSpec extends PulsarAwareTest {
+
+    public static final String PULSAR_INTERCEPTOR_TEST_TOPIC = "persistent://public/default/intercepted"
+    public static final String PULSAR_UNRELATED_TEST_TOPIC = "persistent://public/default/unrelated"
+
+    static final List<String> CALLS = new CopyOnWriteArrayList<>()
+
+    void "test interceptors are selected by topic pattern in order"() {
+        given:
+        PulsarInterceptorResolver resolver = context.getBean(PulsarInterceptorResolver)
+        Message message = Mock(Message)
+
+        when:
+        CALLS.clear()
+        resolver.producerInterceptors(PULSAR_INTERCEPTOR_TEST_TOPIC).each { it.beforeSend(null, message) }
+        List<String> intercepted = new ArrayList<>(CALLS)
+        CALLS.clear()
+        resolver.producerInterceptors(PULSAR_UNRELATED_TEST_TOPIC).each { it.beforeSend(null, message) }
+
+        then:
+        ['first:send', 'second:send'] == intercepted
+        ['first:send', 'unrelated:send', 'second:send'] == CALLS
+        1 == resolver.consumerInterceptors(PULSAR_INTERCEPTOR_TEST_TOPIC).length
+        0 == resolver.consumerInterceptors(PULSAR_UNRELATED_TEST_TOPIC).length
+    }
+
+    void "test interceptors are called on send and receive"() {
+        given:
+        BlockingVariables vars = new BlockingVariables(65)
+        InterceptedConsumer consumer = context.getBean(InterceptedConsumer)
+        InterceptedProducer producer = context.getBean(InterceptedProducer)
+        consumer.blockers = vars
+        CALLS.clear()
+
+        when:
+        MessageId messageId = producer.send('intercepted')
+
+        then:
+        'intercepted' == vars.getProperty('value')
+        ['first:send', 'second:send', 'consumer:' + messageId] == CALLS.findAll { !it.endsWith(':ack') }
+    }
+
+    void "test closing clients doesn't close shared interceptor beans"() {
+        given:
+        PulsarInterceptorResolver resolver = context.getBean(PulsarInterceptorResolver)
+        Producer<byte[]> producer = context.getBean(PulsarClient)
+                .newProducer()
+                .topic(PULSAR_INTERCEPTOR_TEST_TOPIC)
+                .intercept(resolver.producerInterceptors(PULSAR_INTERCEPTOR_TEST_TOPIC))
+                .create()
+
+        when:
+        producer.close()
+
+        then:
+        !context.getBean(FirstProducerInterceptor).closed
+        !context.getBean(SecondProducerInterceptor).closed
+    }
+
+    static abstract class RecordingProducerInterceptor implements ProducerInterceptor {
+        private final String name
+        volatile boolean closed
+
+        RecordingProducerInterceptor(String name) {
+            this.name = name
+        }
+
+        @Override
+        void close() {
+            closed = true
+        }
+
+        @Override
+        boolean eligible(Message message) {
+            return true
+        }
+
+        @Override
+        Message beforeSend(Producer producer, Message message) {
+            CALLS << "$name:send".toString()
+            return message
+        }
+
+        @Override
+        void onSendAcknowledgement(Producer producer, Message message, MessageId msgId, Throwable exception) {
+            CALLS << "$name:ack".toString()
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'PulsarInterceptorSpec')
+    @Singleton
+    @Order(1)
+    static class FirstProducerInterceptor extends RecordingProducerInterceptor {
+        FirstProducerInterceptor() {
+            super('first')
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'PulsarInterceptorSpec')
+    @Singleton
+    @Order(3)
+    static class SecondProducerInterceptor extends RecordingProducerInterceptor {
+        SecondProducerInterceptor() {
+            super('second')
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'PulsarInterceptorSpec')
+    @Singleton
+    @Order(2)
+    @PulsarInterceptor('.*/unrelated')
+    static class UnrelatedProducerInterceptor extends RecordingProducerInterceptor {
+        UnrelatedProducerInterceptor() {
+            super('unrelated')
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'PulsarInterceptorSpec')
+    @Singleton
+    @PulsarInterceptor('.*/intercepted')
+    static class RecordingConsumerInterceptor implements ConsumerInterceptor<String> {
+
+        @Override
+        void close() {
+        }
+
+        @Override
+        Message<String> beforeConsume(Consumer<String> consumer, Message<String> message) {
+            CALLS << "consumer:$message.messageId".toString()
+            return message
+        }
+
+        @Override
+        void onAcknowledge(Consumer<String> consumer, MessageId messageId, Throwable exception) {
+        }
+
+        @Override
+        void onAcknowledgeCumulative(Consumer<String> consumer, MessageId messageId, Throwable exception) {
+        }
+
+        @Override
+        void onNegativeAcksSend(Consumer<String> consumer, Set<MessageId> messageIds) {
+        }
+
+        @Override
+        void onAckTimeoutSend(Consumer<String> consumer, Set<MessageId> messageIds) {
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'PulsarInterceptorSpec')
+    @PulsarSubscription(subscriptionName = "subscriber-intercepted")
+    static class InterceptedConsumer {
+        BlockingVariables blockers
+
+        @PulsarConsumer(
+                topic = PulsarInterceptorSpec.PULSAR_INTERCEPTOR_TEST_TOPIC,
+                consumerName = 'intercepted-consumer',
+                subscribeAsync = false)
+        void receive(@MessageBody String message) {
+            blockers?.setProperty("value", message)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'PulsarInterceptorSpec')
+    @PulsarProducerClient
+    static interface InterceptedProducer {
+
+        @PulsarProducer(topic = PulsarInterceptorSpec.PULSAR_INTERCEPTOR_TEST_TOPIC, producerName = "intercepted-producer")
+        MessageId send(String message)
+    }
+}
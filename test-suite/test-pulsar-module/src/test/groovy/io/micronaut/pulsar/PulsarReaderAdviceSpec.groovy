@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar
+
+import io.micronaut.aop.MethodInvocationContext
+import io.micronaut.context.BeanContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.inject.ExecutableMethod
+import io.micronaut.pulsar.annotation.PulsarReader
+import io.micronaut.pulsar.annotation.PulsarReaderClient
+import io.micronaut.pulsar.intercept.PulsarReaderAdvice
+import org.apache.pulsar.client.api.Message
+import org.apache.pulsar.client.api.Producer
+import org.apache.pulsar.client.api.PulsarClient
+import org.apache.pulsar.client.api.Reader
+import org.apache.pulsar.client.impl.schema.StringSchema
+import reactor.core.publisher.Flux
+
+import java.util.concurrent.CompletableFuture
+
+import static java.util.concurrent.TimeUnit.SECONDS
+
+class PulsarReaderAdviceSpec extends PulsarAwareTest {
+
+    void "test reader of static topic is created once and reused"() {
+        given:
+        BeanContext beanContext = Mock()
+        Reader<String> reader = Mock()
+        Message<String> message = Stub() {
+            getValue() >> "value"
+        }
+        PulsarReaderRegistry registry = Stub() {
+            getReader("advice-reader") >> reader
+        }
+        PulsarReaderAdvice advice = new PulsarReaderAdvice(beanContext)
+        MethodInvocationContext<Object, Object> invocation = invocation("read")
+
+        when:
+        Object first = advice.intercept(invocation)
+        Object second = advice.intercept(invocation)
+
+        then:
+        1 * beanContext.createBean(Reader, *_) >> reader
+        _ * beanContext.getBean(PulsarReaderRegistry) >> registry
+        2 * reader.readNext(1, SECONDS) >> message
+        "value" == first
+        "value" == second
+    }
+
+    void "test reader of dynamic tenant topic is resolved on each call"() {
+        given:
+        BeanContext beanContext = Mock()
+        Reader<String> reader = Mock()
+        Message<String> message = Stub() {
+            getValue() >> "value"
+        }
+        PulsarReaderAdvice advice = new PulsarReaderAdvice(beanContext)
+        MethodInvocationContext<Object, Object> invocation = invocation("readTenant")
+
+        when:
+        advice.intercept(invocation)
+        advice.intercept(invocation)
+
+        then:
+        2 * beanContext.createBean(Reader, *_) >> reader
+        2 * reader.readNext(1, SECONDS) >> message
+    }
+
+    void "test read timeout returns null"() {
+        given:
+        BeanContext beanContext = Mock()
+        Reader<String> reader = Mock()
+        PulsarReaderRegistry registry = Stub() {
+            getReader("advice-reader") >> reader
+        }
+        PulsarReaderAdvice advice = new PulsarReaderAdvice(beanContext)
+
+        when:
+        Object result = advice.intercept(invocation("read"))
+
+        then:
+        1 * beanContext.createBean(Reader, *_) >> reader
+        _ * beanContext.getBean(PulsarReaderRegistry) >> registry
+        1 * reader.readNext(1, SECONDS) >> null
+        null == result
+    }
+
+    void "test publisher of reader method can be subscribed only once"() {
+        given:
+        Reader<String> reader = Stub() {
+            hasMessageAvailableAsync() >> CompletableFuture.completedFuture(false)
+        }
+        PulsarReaderRegistry registry = Stub() {
+            getReader("advice-publisher") >> reader
+        }
+        BeanContext beanContext = Stub() {
+            createBean(Reader, *_) >> reader
+            getBean(PulsarReaderRegistry) >> registry
+        }
+        Flux<String> messages = new PulsarReaderAdvice(beanContext).intercept(invocation("readPublisher")) as Flux<String>
+
+        expect:
+        messages.collectList().block().isEmpty()
+
+        when:
+        messages.collectList().block()
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    void "test removed reader is created again on next read"() {
+        given:
+        Producer<String> producer = context.getBean(PulsarClient)
+                .newProducer(new StringSchema())
+                .topic(PulsarReaderSpec.PULSAR_READER_TEST_TOPIC_METHOD)
+                .producerName("advice-producer")
+                .create()
+        producer.send("message")
+        AdviceReaderClient client = context.getBean(AdviceReaderClient)
+        PulsarReaderRegistry registry = context.getBean(PulsarReaderRegistry)
+
+        when:
+        String first = client.readLive()
+        Reader<?> removed = registry.getReader("advice-live-reader")
+        registry.removeReader("advice-live-reader").get(60, SECONDS)
+        String again = client.readLive()
+
+        then: "new reader starts from the earliest message again"
+        null != first
+        first == again
+        !removed.connected
+        null != registry.getReader("advice-live-reader")
+        !registry.getReader("advice-live-reader").is(removed)
+
+        cleanup:
+        producer.close()
+    }
+
+    private MethodInvocationContext<Object, Object> invocation(String name) {
+        ExecutableMethod<Object, Object> method = context.getBeanDefinition(AdviceReaderClient).getRequiredMethod(name)
+        return Stub(MethodInvocationContext) {
+            hasAnnotation(PulsarReader) >> true
+            getExecutableMethod() >> method
+            getAnnotation(PulsarReader) >> method.getAnnotation(PulsarReader)
+            getParameterValues() >> new Object[0]
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'PulsarReaderAdviceSpec')
+    @PulsarReaderClient
+    static interface AdviceReaderClient {
+        @PulsarReader(topic = PulsarReaderSpec.PULSAR_READER_TEST_TOPIC_METHOD, readerName = "advice-reader", readTimeout = 1)
+        String read();
+
+        @PulsarReader(topic = 'persistent://${tenant}/default/reader-advice-test', readerName = "advice-tenant-reader", readTimeout = 1)
+        String readTenant();
+
+        @PulsarReader(topic = PulsarReaderSpec.PULSAR_READER_TEST_TOPIC_METHOD, readerName = "advice-publisher")
+        Flux<String> readPublisher();
+
+        @PulsarReader(topic = PulsarReaderSpec.PULSAR_READER_TEST_TOPIC_METHOD, readerName = "advice-live-reader",
+                readTimeout = 60, startMessageLatest = false)
+        String readLive();
+    }
+}
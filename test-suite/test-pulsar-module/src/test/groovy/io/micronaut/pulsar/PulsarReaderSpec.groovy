@@ -1,9 +1,15 @@
 package io.micronaut.pulsar
 
+import io.micronaut.context.ApplicationContext
 import io.micronaut.context.annotation.Requires
+import io.micronaut.context.env.Environment
+import io.micronaut.context.exceptions.ConfigurationException
 import io.micronaut.messaging.annotation.MessageMapping
 import io.micronaut.pulsar.annotation.PulsarReader
 import io.micronaut.pulsar.annotation.PulsarReaderClient
+import io.micronaut.pulsar.annotation.PulsarTableView
+import io.micronaut.pulsar.annotation.ReaderSeek
+import io.micronaut.pulsar.shared.PulsarTls
 
 /*
  * Copyright 2017-2022 original authors
@@ -24,10 +30,13 @@ import io.micronaut.pulsar.annotation.PulsarReaderClient
 import jakarta.inject.Singleton
 import org.apache.pulsar.client.api.*
 import org.apache.pulsar.client.impl.schema.StringSchema
+import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
 import spock.lang.Stepwise
 
 import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
 
 import static java.util.concurrent.TimeUnit.SECONDS
 
@@ -39,6 +48,8 @@ class PulsarReaderSpec extends PulsarAwareTest {
     public static final String PULSAR_READER_TEST_TOPIC_METHOD_WRAPPED = "persistent://public/default/reader-test-method-wrapped"
     public static final String PULSAR_READER_TEST_TOPIC_METHOD_ASYNC = "persistent://public/default/reader-test-method-async"
     public static final String PULSAR_READER_TEST_TOPIC_METHOD_ASYNC_WRAPPED = "persistent://public/default/reader-test-method-async-wrapped"
+    public static final String PULSAR_TABLE_VIEW_TEST_TOPIC = "persistent://public/default/table-view-test"
+    public static final String PULSAR_PARTITIONED_READER_TEST_TOPIC = "persistent://public/default/partitioned-reader-test"
 
     void "test injectable reader"() {
         given:
@@ -163,6 +174,165 @@ class PulsarReaderSpec extends PulsarAwareTest {
         annotationValue.get().contains PULSAR_READER_TEST_TOPIC_INJECTABLE
     }
 
+    void "test bulk and streaming reader methods"() {
+        given:
+        Producer producer = context.getBean(PulsarClient)
+                .newProducer(new StringSchema())
+                .topic(PulsarReaderSpec.PULSAR_READER_TEST_TOPIC_METHOD)
+                .producerName("string-producer")
+                .create()
+        ReaderClientTest readerClientTest = context.getBean(ReaderClientTest)
+        List<String> messages = ["first", "second", "third"]
+
+        when:
+        messages.each { producer.send(it) }
+        List<String> all = readerClientTest.readAll()
+        List<Message<String>> streamed = readerClientTest.streamAll().collectList().block(Duration.ofSeconds(60))
+
+        then:
+        all.containsAll(messages)
+        streamed*.value.containsAll(messages)
+        readerClientTest.readAll().isEmpty()
+
+        cleanup:
+        producer.close()
+    }
+
+    void "test reader method seeks before reading"() {
+        given:
+        ReaderClientTest readerClientTest = context.getBean(ReaderClientTest)
+
+        when:
+        List<String> all = readerClientTest.readFrom(MessageId.earliest)
+        List<String> again = readerClientTest.readFrom(MessageId.earliest)
+        List<String> rest = readerClientTest.readFrom(null)
+
+        then:
+        all.containsAll(["first", "second", "third"])
+        again == all
+        rest.isEmpty()
+    }
+
+    void "test partitioned reader reads partitions in parallel"() {
+        given:
+        Producer producer = context.getBean(PulsarClient)
+                .newProducer(new StringSchema())
+                .topic(PulsarReaderSpec.PULSAR_PARTITIONED_READER_TEST_TOPIC)
+                .producerName("partitioned-producer")
+                .messageRoutingMode(MessageRoutingMode.RoundRobinPartition)
+                .enableBatching(false)
+                .create()
+        (1..30).each { producer.send("message-$it".toString()) }
+        PartitionedReader<String> reader = context.getBean(PartitionedReaderRequester).reader
+        Queue<String> received = new ConcurrentLinkedQueue<>()
+        Set<Integer> partitions = ConcurrentHashMap.newKeySet()
+
+        when:
+        reader.readAvailable { partition, message ->
+            partitions << partition
+            received << message.value
+        }.get(60, SECONDS)
+
+        then:
+        3 == reader.partitionReaders.size()
+        [0, 1, 2] as Set == partitions
+        30 == received.size()
+        0 == reader.streamAvailable().count()
+
+        cleanup:
+        producer.close()
+    }
+
+    void "test checkpointed plain reader on partitioned topic is rejected"() {
+        given:
+        ApplicationContext checkpointContext = ApplicationContext.run(
+                ['pulsar.service-url'               : PulsarTls.pulsarBrokerUrl,
+                 'pulsar.reader-checkpoints.enabled': true,
+                 'pulsar.reader-checkpoints.path'   : File.createTempFile('checkpoints', '.log').absolutePath,
+                 'spec.name'                        : 'PulsarReaderCheckpointSpec'],
+                Environment.TEST)
+
+        when:
+        checkpointContext.getBean(CheckpointedReaderClient).readPartitioned()
+
+        then:
+        Exception ex = thrown()
+        [ex, ex.cause].any { it instanceof ConfigurationException }
+
+        cleanup:
+        checkpointContext.close()
+    }
+
+    void "test injectable table view is loaded before injection"() {
+        given:
+        Producer producer = context.getBean(PulsarClient)
+                .newProducer(new StringSchema())
+                .topic(PulsarReaderSpec.PULSAR_TABLE_VIEW_TEST_TOPIC)
+                .producerName("table-view-producer")
+                .create()
+        producer.newMessage().key("a").value("first").send()
+        producer.newMessage().key("b").value("second").send()
+        producer.newMessage().key("a").value("third").send()
+
+        when:
+        TableView<String> tableView = context.getBean(TableViewRequester).tableView
+
+        then:
+        2 == tableView.size()
+        "third" == tableView.get("a")
+        "second" == tableView.get("b")
+        tableView.is(context.getBean(PulsarTableViewRegistry).getTableView("configuration"))
+
+        cleanup:
+        producer.close()
+    }
+
+    void "test table view without topic fails naming the injection point"() {
+        when:
+        context.getBean(MissingTopicTableViewRequester)
+
+        then:
+        Exception ex = thrown()
+        Throwable cause = ex
+        while (null != cause && !(cause instanceof ConfigurationException)) {
+            cause = cause.cause
+        }
+        cause.message.contains("Missing topic")
+        cause.message.contains(MissingTopicTableViewRequester.name)
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'PulsarReaderSpec')
+    static class PartitionedReaderRequester {
+        private final PartitionedReader<String> reader
+
+        PartitionedReaderRequester(@PulsarReader(topic = PulsarReaderSpec.PULSAR_PARTITIONED_READER_TEST_TOPIC,
+                schema = MessageSchema.STRING, startMessageLatest = false) PartitionedReader<String> reader) {
+            this.reader = reader
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'PulsarReaderSpec')
+    static class TableViewRequester {
+        private final TableView<String> tableView
+
+        TableViewRequester(@PulsarTableView(topic = PulsarReaderSpec.PULSAR_TABLE_VIEW_TEST_TOPIC,
+                schema = MessageSchema.STRING, name = "configuration") TableView<String> tableView) {
+            this.tableView = tableView
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'PulsarReaderSpec')
+    static class MissingTopicTableViewRequester {
+        private final TableView<String> tableView
+
+        MissingTopicTableViewRequester(@PulsarTableView(schema = MessageSchema.STRING) TableView<String> tableView) {
+            this.tableView = tableView
+        }
+    }
+
     @Singleton
     @Requires(property = 'spec.name', value = 'PulsarReaderSpec')
     static class ReaderRequester {
@@ -173,6 +343,13 @@ class PulsarReaderSpec extends PulsarAwareTest {
         }
     }
 
+    @Requires(property = 'spec.name', value = 'PulsarReaderCheckpointSpec')
+    @PulsarReaderClient
+    static interface CheckpointedReaderClient {
+        @PulsarReader(topic = PulsarReaderSpec.PULSAR_PARTITIONED_READER_TEST_TOPIC, checkpoint = true, readTimeout = 1)
+        String readPartitioned();
+    }
+
     @Requires(property = 'spec.name', value = 'PulsarReaderSpec')
     @PulsarReaderClient
     static interface ReaderClientTest {
@@ -193,5 +370,17 @@ class PulsarReaderSpec extends PulsarAwareTest {
         @Requires(property = 'spec.name', value = 'PulsarReaderSpec')
         @PulsarReader(topic = PulsarReaderSpec.PULSAR_READER_TEST_TOPIC_METHOD_ASYNC_WRAPPED, startMessageLatest = false)
         Mono<Message<String>> readAsyncMsg();
+
+        @Requires(property = 'spec.name', value = 'PulsarReaderSpec')
+        @PulsarReader(topic = PulsarReaderSpec.PULSAR_READER_TEST_TOPIC_METHOD, startMessageLatest = false, maxMessages = 100)
+        List<String> readAll();
+
+        @Requires(property = 'spec.name', value = 'PulsarReaderSpec')
+        @PulsarReader(topic = PulsarReaderSpec.PULSAR_READER_TEST_TOPIC_METHOD, readerName = "streaming-reader", startMessageLatest = false)
+        Flux<Message<String>> streamAll();
+
+        @Requires(property = 'spec.name', value = 'PulsarReaderSpec')
+        @PulsarReader(topic = PulsarReaderSpec.PULSAR_READER_TEST_TOPIC_METHOD, readerName = "seeking-reader", startMessageLatest = false)
+        List<String> readFrom(@ReaderSeek MessageId position);
     }
 }
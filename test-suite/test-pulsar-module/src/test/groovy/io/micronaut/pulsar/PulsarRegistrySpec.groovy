@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar
+
+import org.apache.pulsar.client.api.Consumer
+import org.apache.pulsar.client.api.Producer
+import org.apache.pulsar.client.api.Reader
+import spock.lang.Specification
+
+import java.util.concurrent.ExecutionException
+
+class PulsarRegistrySpec extends Specification {
+
+    void "test registries not supporting removal return failed future"() {
+        when:
+        removal.get()
+
+        then:
+        ExecutionException ex = thrown()
+        ex.cause instanceof UnsupportedOperationException
+
+        where:
+        removal << [
+            new PulsarConsumerRegistry() {
+                Map<String, Consumer<?>> getConsumers() { [:] }
+                public <T> Consumer<T> getConsumer(String id) { null }
+                boolean consumerExists(String id) { false }
+                Set<String> getConsumerIds() { [] as Set }
+                boolean isPaused(String id) { false }
+                void pause(String id) { }
+                void resume(String id) { }
+            }.removeConsumer('consumer'),
+            new PulsarProducerRegistry() {
+                Map<String, Producer<?>> getProducers() { [:] }
+                Producer<?> getProducer(String id) { null }
+                Set<String> getProducerIds() { [] as Set }
+            }.removeProducer('producer'),
+            new PulsarReaderRegistry() {
+                Reader<?> getReader(String identifier) { null }
+                Collection<Reader<?>> getReaders() { [] }
+            }.removeReader('reader')
+        ]
+    }
+}
@@ -1,13 +1,30 @@
 package io.micronaut.pulsar
 
 import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.AnnotationValue
+import io.micronaut.core.type.Argument
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.json.JsonMapper
 import io.micronaut.messaging.annotation.MessageBody
+import io.micronaut.protobuf.codec.ProtobufferCodec
 import io.micronaut.pulsar.annotation.PulsarConsumer
 import io.micronaut.pulsar.annotation.PulsarProducer
 import io.micronaut.pulsar.annotation.PulsarProducerClient
 import io.micronaut.pulsar.annotation.PulsarSubscription
+import io.micronaut.pulsar.processor.DefaultSchemaHandler
+import io.micronaut.pulsar.schemas.GeneratedSchemas
+import io.micronaut.pulsar.schemas.JsonSchema
+import io.micronaut.pulsar.schemas.ProtobufSchema
+import io.micronaut.pulsar.schemas.SchemaResolver
+import io.micronaut.pulsar.schemas.json.JsonReader
+import io.micronaut.pulsar.schemas.json.LazyGenericJsonRecord
+import io.netty.buffer.Unpooled
+import org.apache.avro.Schema
+import org.apache.avro.reflect.ReflectData
 import org.apache.pulsar.client.api.Message
 import org.apache.pulsar.client.api.MessageId
+import org.apache.pulsar.client.api.schema.GenericRecord
+import org.apache.pulsar.common.schema.SchemaType
 import spock.lang.Stepwise
 import spock.util.concurrent.BlockingVariables
 
@@ -35,6 +52,51 @@ class PulsarSchemaSpec extends PulsarAwareTest {
         message.properties == vars.getProperty("json_value").properties
     }
 
+    void "test json schema decodes slices and buffers"() {
+        given:
+        JsonMapper mapper = context.getBean(JsonMapper)
+        JsonSchema<JsonMessage> schema = JsonSchema.of(JsonMessage, mapper)
+        byte[] encoded = schema.encode(new JsonMessage(text: "slice", number: 3))
+        byte[] padded = new byte[encoded.length + 4]
+        System.arraycopy(encoded, 0, padded, 2, encoded.length)
+
+        when:
+        JsonMessage fromSlice = new JsonReader<JsonMessage>(mapper, JsonMessage).read(padded, 2, encoded.length)
+        JsonMessage fromHeap = schema.decode(Unpooled.wrappedBuffer(padded, 2, encoded.length))
+        JsonMessage fromDirect = schema.decode(Unpooled.directBuffer().writeBytes(encoded))
+
+        then:
+        [fromSlice, fromHeap, fromDirect].every { it.text == "slice" && it.number == 3 }
+    }
+
+    void "test resolved schemas are reused"() {
+        given:
+        DefaultSchemaHandler handler = context.getBean(DefaultSchemaHandler)
+        AnnotationValue<PulsarProducer> json = AnnotationValue.builder(PulsarProducer)
+                .member("schema", MessageSchema.JSON)
+                .build()
+        AnnotationValue<PulsarProducer> string = AnnotationValue.builder(PulsarProducer)
+                .member("schema", MessageSchema.STRING)
+                .build()
+
+        expect:
+        handler.decideSchema(Argument.of(JsonMessage), null, json, "first").is(
+                handler.decideSchema(Argument.of(Message, JsonMessage), null, json, "second"))
+        handler.decideSchema(Argument.of(String), null, string, "first").is(
+                handler.decideSchema(Argument.of(String), null, string, "second"))
+        !handler.decideSchema(Argument.of(String), null, json, "json").is(
+                handler.decideSchema(Argument.of(String), null, string, "string"))
+    }
+
+    void "test json schema uses definition generated at compile time"() {
+        when:
+        String definition = GeneratedSchemas.definitionBuilder(JsonMessage).build().jsonDef
+
+        then:
+        null != definition
+        ReflectData.AllowNull.get().getSchema(JsonMessage) == new Schema.Parser().parse(definition)
+    }
+
     void "test send receive protobuf"() {
         given:
         BlockingVariables vars = new BlockingVariables(65)
@@ -56,6 +118,56 @@ class PulsarSchemaSpec extends PulsarAwareTest {
         message == vars.getProperty("proto_value")
     }
 
+    void "test protobuf schema decodes slices and buffers"() {
+        given:
+        ProtobufSchema<ProtoMessages.ProtoMessage> schema = ProtobufSchema.of(ProtoMessages.ProtoMessage,
+                context.getBean(ProtobufferCodec))
+        ProtoMessages.ProtoMessage message = ProtoMessages.ProtoMessage.newBuilder()
+                .setMessage("slice")
+                .setNumber(3)
+                .build()
+        byte[] encoded = schema.encode(message)
+        byte[] padded = new byte[encoded.length + 4]
+        System.arraycopy(encoded, 0, padded, 2, encoded.length)
+
+        expect:
+        encoded == message.toByteArray()
+        message == schema.decode(Unpooled.wrappedBuffer(padded, 2, encoded.length))
+        message == schema.decode(Unpooled.directBuffer().writeBytes(encoded))
+    }
+
+    void "test binary schemas map pojos like json"() {
+        given:
+        org.apache.pulsar.client.api.Schema<JsonMessage> schema = context.getBean(SchemaResolver,
+                Qualifiers.byName(resolverName)).forArgument(JsonMessage)
+        JsonMessage message = new JsonMessage(text: "binary", number: 4)
+        byte[] encoded = schema.encode(message)
+
+        expect:
+        SchemaType.BYTES == schema.schemaInfo.type
+        encoded.length < context.getBean(JsonMapper).writeValueAsBytes(message).length
+        message.properties == schema.decode(encoded).properties
+        message.properties == schema.decode(Unpooled.directBuffer().writeBytes(encoded)).properties
+
+        where:
+        resolverName << [SchemaResolver.CBOR_SCHEMA_NAME, SchemaResolver.MSGPACK_SCHEMA_NAME]
+    }
+
+    void "test generic record consumers read any schema lazily"() {
+        given:
+        BlockingVariables vars = new BlockingVariables(65)
+
+        when:
+        context.getBean(PulsarGenericRecordListener).blockers = vars
+        context.getBean(PulsarSchemaTestProducer).sendJson(new JsonMessage(text: "generic", number: 5))
+        GenericRecord record = vars.getProperty("generic") as GenericRecord
+
+        then:
+        record instanceof LazyGenericJsonRecord
+        5 == record.getField("number")
+        ["number", "text"] == record.fields*.name.sort()
+    }
+
     @Requires(property = 'spec.name', value = 'PulsarSchemaSpec')
     @PulsarProducerClient
     static interface PulsarSchemaTestProducer {
@@ -97,6 +209,23 @@ class PulsarSchemaSpec extends PulsarAwareTest {
         }
     }
 
+    @Requires(property = 'spec.name', value = 'PulsarSchemaSpec')
+    @PulsarSubscription(subscriptionName = "subscriber-generic")
+    static class PulsarGenericRecordListener {
+        BlockingVariables blockers
+
+        @PulsarConsumer(
+                topic = PulsarSchemaSpec.PULSAR_JSON_TOPIC,
+                consumerName = 'json-generic-consumer',
+                subscribeAsync = false)
+        void genericListener(GenericRecord record) {
+            if (null == blockers) {
+                return
+            }
+            blockers.setProperty(record.getField("text") as String, record)
+        }
+    }
+
     static class JsonMessage {
         String text
         Integer number
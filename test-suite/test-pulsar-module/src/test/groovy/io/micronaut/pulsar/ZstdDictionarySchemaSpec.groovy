@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar
+
+import com.github.luben.zstd.Zstd
+import com.github.luben.zstd.ZstdDictCompress
+import com.github.luben.zstd.ZstdOutputStream
+import io.micronaut.core.io.ResourceResolver
+import io.micronaut.pulsar.config.PulsarZstdConfiguration
+import io.micronaut.pulsar.schemas.zstd.ZstdDictionaryRegistry
+import io.netty.buffer.Unpooled
+import org.apache.pulsar.client.api.Schema
+import org.apache.pulsar.client.api.SchemaSerializationException
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class ZstdDictionarySchemaSpec extends Specification {
+
+    @Shared
+    List<byte[]> samples = (0..<2000).collect {
+        event(it).getBytes(StandardCharsets.UTF_8)
+    }
+
+    void "test small messages compress with trained dictionary"() {
+        given:
+        ZstdDictionaryRegistry registry = new ZstdDictionaryRegistry([], new ResourceResolver(), new PulsarZstdConfiguration())
+        registry.train("events", samples, 4096, 3)
+        Schema<String> schema = registry.compressed(Schema.STRING, "events")
+        String message = event(5000)
+
+        when:
+        byte[] encoded = schema.encode(message)
+
+        then:
+        encoded.length * 2 < message.length()
+        encoded.length < Zstd.compress(message.getBytes(StandardCharsets.UTF_8)).length
+        message == schema.decode(encoded)
+        message == schema.decode(Unpooled.directBuffer().writeBytes(encoded), null)
+        message == schema.decode(Schema.STRING.encode(message))
+
+        cleanup:
+        registry.close()
+    }
+
+    void "test consumers decompress messages of replaced dictionary"() {
+        given:
+        ZstdDictionaryRegistry registry = new ZstdDictionaryRegistry([], new ResourceResolver(), new PulsarZstdConfiguration())
+        long first = registry.train("events", samples.subList(0, 1000), 4096, 3)
+        Schema<String> schema = registry.compressed(Schema.STRING, "events")
+        byte[] old = schema.encode(event(1))
+        ZstdDictCompress replaced = registry.getCompressor("events").get()
+
+        when:
+        long second = registry.train("events", samples.subList(1000, 2000), 2048, 3)
+
+        then:
+        first != second
+        event(1) == schema.decode(old)
+        Zstd.getDictIdFromFrame(schema.encode(event(2))) == second
+
+        when: "replaced compression dictionary is closed"
+        Zstd.compress(event(3).getBytes(StandardCharsets.UTF_8), replaced)
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        new ZstdDictionaryRegistry([], new ResourceResolver(), new PulsarZstdConfiguration()).compressed(Schema.STRING, "events").decode(old)
+
+        then:
+        thrown(SchemaSerializationException)
+
+        cleanup:
+        registry.close()
+    }
+
+    void "test payloads over maximum decompressed size are rejected"() {
+        given:
+        PulsarZstdConfiguration configuration = new PulsarZstdConfiguration(maxDecompressedSize: 1024)
+        ZstdDictionaryRegistry registry = new ZstdDictionaryRegistry([], new ResourceResolver(), configuration)
+        registry.train("events", samples, 4096, 3)
+        Schema<String> schema = registry.compressed(Schema.STRING, "events")
+        String large = (0..<20).collect { event(it) }.join(",")
+
+        expect:
+        event(1) == schema.decode(schema.encode(event(1)))
+
+        when:
+        schema.decode(schema.encode(large))
+
+        then:
+        SchemaSerializationException ex = thrown()
+        ex.message.contains("maximum decompressed size")
+
+        cleanup:
+        registry.close()
+    }
+
+    void "test frames without content size are decompressed up to maximum size"() {
+        given:
+        PulsarZstdConfiguration configuration = new PulsarZstdConfiguration(maxDecompressedSize: 1024)
+        ZstdDictionaryRegistry registry = new ZstdDictionaryRegistry([], new ResourceResolver(), configuration)
+        Schema<String> schema = registry.compressed(Schema.STRING, "events")
+        String large = (0..<20).collect { event(it) }.join(",")
+
+        expect:
+        Zstd.getFrameContentSize(streamed(event(1))) == -1
+        event(1) == schema.decode(streamed(event(1)))
+
+        when:
+        schema.decode(streamed(large))
+
+        then:
+        SchemaSerializationException ex = thrown()
+        ex.message.contains("maximum decompressed size")
+
+        cleanup:
+        registry.close()
+    }
+
+    private static byte[] streamed(String message) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        new ZstdOutputStream(out).withCloseable { it.write(message.getBytes(StandardCharsets.UTF_8)) }
+        out.toByteArray()
+    }
+
+    private static String event(int i) {
+        """{"type":"page-view","userId":"user-${i % 97}","sessionId":"${UUID.nameUUIDFromBytes(i.toString().bytes)}",""" +
+                """"path":"/products/${i % 31}","timestamp":${1666000000000L + i * 137},"referrer":null}"""
+    }
+}
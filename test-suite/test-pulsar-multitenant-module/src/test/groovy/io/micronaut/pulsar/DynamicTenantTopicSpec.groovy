@@ -16,20 +16,30 @@
 package io.micronaut.pulsar
 
 import io.micronaut.context.ApplicationContext
+import io.micronaut.context.event.ApplicationEventPublisher
 import io.micronaut.context.env.Environment
 import io.micronaut.pulsar.dynamic.ConsumerDynamicTenantTopicTester
 import io.micronaut.pulsar.dynamic.DynamicReader
 import io.micronaut.pulsar.dynamic.FakeClient
+import io.micronaut.pulsar.dynamic.TenantReadyListener
+import io.micronaut.pulsar.events.PulsarTenantDiscoveredEvent
+import io.micronaut.pulsar.intercept.PulsarMultitenantProducerAdvice
+import io.micronaut.pulsar.processor.PulsarTenantRemover
 import io.micronaut.pulsar.processor.TenantNameResolver
 import io.micronaut.pulsar.shared.PulsarTls
 import io.micronaut.runtime.server.EmbeddedServer
 import io.micronaut.scheduling.executor.ThreadSelection
+import org.apache.pulsar.client.api.Consumer
 import org.apache.pulsar.client.api.Message
+import org.apache.pulsar.client.api.Producer
 import spock.lang.AutoCleanup
 import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Stepwise
 import spock.util.concurrent.BlockingVariables
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.TimeUnit
 
 @Stepwise
 class DynamicTenantTopicSpec extends Specification {
@@ -77,8 +87,8 @@ class DynamicTenantTopicSpec extends Specification {
         TenantNameResolver tenantNameResolver = context.getBean(TenantNameResolver.class)
 
         when:
-        fakeClient.addTenantConsumer(DynamicTenantTopicSpec.TENANT_1)
-        fakeClient.addTenantConsumer(DynamicTenantTopicSpec.TENANT_2)
+        String tenant1Consumers = fakeClient.addTenantConsumer(DynamicTenantTopicSpec.TENANT_1)
+        String tenant2Consumers = fakeClient.addTenantConsumer(DynamicTenantTopicSpec.TENANT_2)
         String messageId1 = fakeClient.sendMessage(DynamicTenantTopicSpec.TENANT_1, message)
         tenantNameResolver.overrideTenantName(DynamicTenantTopicSpec.TENANT_1)
         Message<String> readerMessage1 = dynamicReaderTester.read()
@@ -89,6 +99,8 @@ class DynamicTenantTopicSpec extends Specification {
         tenantNameResolver.clearTenantName()
 
         then:
+        TENANT_1 + '-dynamic-topic-consumer' == tenant1Consumers
+        TENANT_2 + '-dynamic-topic-consumer' == tenant2Consumers
         null != messageId1
         messageId1 == readerMessage1.messageId.toString()
         message == readerMessage1.value
@@ -100,4 +112,58 @@ class DynamicTenantTopicSpec extends Specification {
         (vars.getProperty(messageId2) as String).endsWith(DynamicTenantTopicSpec.TENANT_2)
     }
 
+    void "test producers of dynamic tenant topics are cached per tenant"() {
+        given:
+        PulsarMultitenantProducerAdvice advice = context.getBean(PulsarMultitenantProducerAdvice)
+        PulsarClientCache<Producer<?>> cache = advice.tenantProducerCache
+
+        expect:
+        2 == cache.size()
+        cache.asMap().keySet().collect { it.substring(0, it.indexOf('-')) }.sort() == [TENANT_1, TENANT_2]
+        advice.producerIds.containsAll(cache.asMap().keySet())
+        cache.misses >= 2
+    }
+
+    void "test rediscovered tenant keeps its consumers"() {
+        given:
+        PulsarConsumerRegistry consumers = context.getBean(PulsarConsumerRegistry)
+        ApplicationEventPublisher<PulsarTenantDiscoveredEvent> publisher = context.getBean(ApplicationEventPublisher)
+        TenantReadyListener readyListener = context.getBean(TenantReadyListener)
+        Consumer<?> consumer = consumers.getConsumer(TENANT_2 + '-dynamic-topic-consumer')
+        int readyBefore = readyListener.received.count { it.tenantName == TENANT_2 }
+        PollingConditions conditions = new PollingConditions(timeout: 30)
+
+        when: "same tenant is discovered concurrently"
+        (1..4).collect { Thread.start { publisher.publishEvent(new PulsarTenantDiscoveredEvent(TENANT_2)) } }*.join()
+
+        then:
+        conditions.eventually {
+            assert readyListener.received.count { it.tenantName == TENANT_2 } == readyBefore + 4
+        }
+        readyListener.received.findAll { it.tenantName == TENANT_2 }.drop(readyBefore).every { it.consumerIds.empty }
+        consumers.getConsumer(TENANT_2 + '-dynamic-topic-consumer').is(consumer)
+        consumer.connected
+    }
+
+    void "test removing tenant closes only its consumers, producers and readers"() {
+        given:
+        PulsarTenantRemover remover = context.getBean(PulsarTenantRemover)
+        PulsarConsumerRegistry consumers = context.getBean(PulsarConsumerRegistry)
+        PulsarMultitenantProducerAdvice producers = context.getBean(PulsarMultitenantProducerAdvice)
+        PulsarReaderFactory readers = context.getBean(PulsarReaderFactory)
+        Consumer<?> consumer = consumers.getConsumer(TENANT_1 + '-dynamic-topic-consumer')
+
+        when:
+        remover.remove(TENANT_1).get(30, TimeUnit.SECONDS)
+
+        then:
+        !consumer.connected
+        !consumers.consumerExists(TENANT_1 + '-dynamic-topic-consumer')
+        consumers.consumerExists(TENANT_2 + '-dynamic-topic-consumer')
+        producers.producerIds.every { !it.startsWith(TENANT_1 + '-') }
+        producers.producerIds.any { it.startsWith(TENANT_2 + '-') }
+        readers.readers.every { !it.topic.contains("//$TENANT_1/") }
+        readers.readers.any { it.topic.contains("//$TENANT_2/") }
+    }
+
 }
@@ -22,6 +22,7 @@ import io.micronaut.pulsar.annotation.PulsarConsumer
 import io.micronaut.pulsar.annotation.PulsarProducer
 import io.micronaut.pulsar.annotation.PulsarProducerClient
 import io.micronaut.pulsar.annotation.PulsarSubscription
+import io.micronaut.pulsar.processor.TopicResolver
 import io.micronaut.pulsar.shared.PulsarTls
 import org.apache.pulsar.client.api.Message
 import org.apache.pulsar.client.api.MessageId
@@ -46,6 +47,7 @@ class FixedTenantTopicResolverSpec extends Specification {
                 ['pulsar.service-url'                                   : PulsarTls.pulsarBrokerUrl,
                  'pulsar.shutdown-on-subscriber-error'                  : true,
                  'spec.name'                                            : getClass().simpleName,
+                 'pulsar.tenant-cache.max-tenants'                      : 2,
                  'micronaut.multitenancy.tenantresolver.fixed.enabled'  : true,
                  'micronaut.multitenancy.tenantresolver.fixed.tenant-id': 'public'],
                 Environment.TEST
@@ -69,6 +71,51 @@ class FixedTenantTopicResolverSpec extends Specification {
         message == vars.getProperty("value")
     }
 
+    void "test topic templates are resolved once per tenant"() {
+        given:
+        TopicResolver topicResolver = context.getBean(TopicResolver)
+        String staticTopic = 'persistent://public/default/static'
+
+        when:
+        String resolved = topicResolver.resolve(PULSAR_FIXED_TENANT_TEST_TOPIC)
+
+        then:
+        'persistent://public/default/fixedTenantTest' == resolved
+        resolved.is(topicResolver.resolve(PULSAR_FIXED_TENANT_TEST_TOPIC))
+        staticTopic.is(topicResolver.resolve(staticTopic))
+        'persistent://public/default/${tenant}' == TopicResolver.replaceTenantInTopic('persistent://${tenant}/default/${tenant}', 'public')
+    }
+
+    void "test topics of removed tenant are no longer cached"() {
+        given:
+        TopicResolver topicResolver = context.getBean(TopicResolver)
+        String resolved = topicResolver.resolve(PULSAR_FIXED_TENANT_TEST_TOPIC)
+
+        when:
+        topicResolver.removeTenant('public')
+        String afterRemoval = topicResolver.resolve(PULSAR_FIXED_TENANT_TEST_TOPIC)
+
+        then:
+        'persistent://public/default/fixedTenantTest' == afterRemoval
+        !resolved.is(afterRemoval)
+        afterRemoval.is(topicResolver.resolve(PULSAR_FIXED_TENANT_TEST_TOPIC))
+    }
+
+    void "test topics cache is bounded by maximum number of tenants"() {
+        given:
+        TopicResolver topicResolver = context.getBean(TopicResolver)
+        String first = topicResolver.forTenant('bounded-a').resolve(PULSAR_FIXED_TENANT_TEST_TOPIC)
+
+        when: "more tenants than the limit are resolved"
+        topicResolver.forTenant('bounded-b').resolve(PULSAR_FIXED_TENANT_TEST_TOPIC)
+        topicResolver.forTenant('bounded-c').resolve(PULSAR_FIXED_TENANT_TEST_TOPIC)
+        String again = topicResolver.forTenant('bounded-a').resolve(PULSAR_FIXED_TENANT_TEST_TOPIC)
+
+        then: "dropped topic is built again"
+        'persistent://bounded-a/default/fixedTenantTest' == again
+        !first.is(again)
+    }
+
     @Requires(property = 'spec.name', value = 'FixedTenantTopicResolverSpec')
     @PulsarSubscription(subscriptionName = "subscriber-dynamic")
     static class ConsumerFixedTenantTopicTester {
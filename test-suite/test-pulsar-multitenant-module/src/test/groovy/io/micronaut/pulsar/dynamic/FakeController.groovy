@@ -23,19 +23,24 @@ import io.micronaut.http.annotation.Post
 import io.micronaut.multitenancy.tenantresolver.TenantResolver
 import io.micronaut.pulsar.events.PulsarTenantDiscoveredEvent
 
+import java.util.concurrent.TimeUnit
+
 @Requires(property = 'spec.name', value = 'DynamicTenantTopicSpec')
 @Controller("/")
 class FakeController {
     private final ProducerDynamicTenantTopicTester producer
     final TenantResolver tenantResolver
     final ApplicationEventPublisher<PulsarTenantDiscoveredEvent> tenantPublisher
+    final TenantReadyListener tenantReadyListener
 
     FakeController(ProducerDynamicTenantTopicTester producer,
                    TenantResolver tenantResolver,
-                   ApplicationEventPublisher<PulsarTenantDiscoveredEvent> tenantPublisher) {
+                   ApplicationEventPublisher<PulsarTenantDiscoveredEvent> tenantPublisher,
+                   TenantReadyListener tenantReadyListener) {
         this.producer = producer
         this.tenantResolver = tenantResolver
         this.tenantPublisher = tenantPublisher
+        this.tenantReadyListener = tenantReadyListener
     }
 
     @Post("/messages")
@@ -46,7 +51,7 @@ class FakeController {
     @Post("/tenant")
     String addTenant(@Body String tenant) {
         tenantPublisher.publishEvent(new PulsarTenantDiscoveredEvent(tenant))
-        return tenant.toString()
+        return tenantReadyListener.ready(tenant).get(60, TimeUnit.SECONDS).consumerIds.join(',')
     }
 
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.pulsar.dynamic
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.pulsar.events.PulsarTenantReadyEvent
+import jakarta.inject.Singleton
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+
+@Requires(property = 'spec.name', value = 'DynamicTenantTopicSpec')
+@Singleton
+class TenantReadyListener implements ApplicationEventListener<PulsarTenantReadyEvent> {
+    private final Map<String, CompletableFuture<PulsarTenantReadyEvent>> events = new ConcurrentHashMap<>()
+    final List<PulsarTenantReadyEvent> received = new CopyOnWriteArrayList<>()
+
+    CompletableFuture<PulsarTenantReadyEvent> ready(String tenantName) {
+        return events.computeIfAbsent(tenantName, { new CompletableFuture<>() })
+    }
+
+    @Override
+    void onApplicationEvent(PulsarTenantReadyEvent event) {
+        received << event
+        ready(event.tenantName).complete(event)
+    }
+}
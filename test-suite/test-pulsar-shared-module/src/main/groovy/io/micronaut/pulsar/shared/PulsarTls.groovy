@@ -115,6 +115,15 @@ abstract class PulsarTls {
         }
     }
 
+    static createPartitionedTopic(final String topic, final int partitions) {
+        Container.ExecResult result = PULSAR_CONTAINER.execInContainer('/bin/bash', '-c', PULSAR_CLI_ADMIN + " topics create-partitioned-topic $topic -p $partitions")
+        if (0 != result.exitCode) {
+            String reason = result.stderr ?: result.stdout
+            if (!reason.contains("already exist"))
+                throw new RuntimeException("Unable to create partitioned test topic: $reason")
+        }
+    }
+
     static createTenant(final String tenant) {
         Container.ExecResult result = PULSAR_CONTAINER.execInContainer('/bin/bash', '-c', PULSAR_CLI_ADMIN + " tenants create $tenant")
         if (0 != result.exitCode) {